@@ -75,17 +75,16 @@ public class MessageService {
     }
 
     /**
-     * 채팅방의 모든 멤버에게 CHAt 알림 생성 (보낸 사람은 제외)
-     * TODO: 효율성을 위해 토픽 / bulk / 비동기 방식 등 고려 필요
+     * 채팅방의 모든 멤버에게 CHAT 알림 일괄 생성 (보낸 사람은 제외)
+     * 멤버 수와 무관하게 알림/아웃박스 배치 INSERT 로 처리
      */
     private void notifyChatRoomMembers(ChatRoom chatRoom, User sender) {
-        List<UserChatRoom> members = userChatRoomRepository.findAllByChatRoom(chatRoom);
-        for (UserChatRoom userChatRoom : members) {
-            User target = userChatRoom.getUser();
-            if (target == null) continue;
-            if (target.getUserId().equals(sender.getUserId())) continue;
-            notificationService.createNotification(target, com.example.onlyone.domain.notification.entity.Type.CHAT, new String[]{sender.getNickname()});
-        }
+        List<User> targets = userChatRoomRepository.findAllByChatRoom(chatRoom).stream()
+                .map(UserChatRoom::getUser)
+                .filter(target -> target != null && !target.getUserId().equals(sender.getUserId()))
+                .toList();
+        notificationService.createNotifications(targets,
+                com.example.onlyone.domain.notification.entity.Type.CHAT, sender.getNickname());
     }
 
     /**
@@ -0,0 +1,15 @@
+package com.example.onlyone.domain.club.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 모임 가입/탈퇴(생성 시 모임장 가입 포함) 이벤트 - 트랜잭션 커밋 후 멤버십에 의존하는 캐시 갱신에 사용
+ */
+@Getter
+@RequiredArgsConstructor
+public class ClubMembershipChangedEvent {
+    private final Long userId;
+    private final Long clubId;
+    private final boolean joined;
+}
@@ -84,30 +84,16 @@ public interface ClubRepository extends JpaRepository<Club, Long> {
                                              @Param("sortBy") String sortBy,
                                              Pageable pageable);
 
-    // 함께하는 멤버들의 다른 모임 조회
+    // 주어진 모임들을 멤버 수 순으로 조회 (함께하는 멤버들의 모임 추천용)
     @Query("""
         SELECT c, COUNT(uc)
         FROM Club c
         LEFT JOIN UserClub uc ON c.clubId = uc.club.clubId
-        WHERE EXISTS (
-            SELECT 1
-            FROM UserClub uc1
-            JOIN UserClub teammate ON uc1.club.clubId = teammate.club.clubId
-            JOIN UserClub uc2 ON teammate.user.userId = uc2.user.userId
-            WHERE uc2.club.clubId = c.clubId
-              AND uc1.user.userId = :userId
-              AND teammate.user.userId != :userId
-        )
-        AND NOT EXISTS (
-            SELECT 1
-            FROM UserClub uc3
-            WHERE uc3.club.clubId = c.clubId
-              AND uc3.user.userId = :userId
-        )
+        WHERE c.clubId IN :clubIds
         GROUP BY c.clubId
         ORDER BY COUNT(uc) DESC, c.createdAt DESC
     """)
-    List<Object[]> findClubsByTeammates(@Param("userId") Long userId, Pageable pageable);
+    List<Object[]> findClubsWithMemberCountByIds(@Param("clubIds") List<Long> clubIds, Pageable pageable);
 
     Club findByClubId(Long clubId);
 }
\ No newline at end of file
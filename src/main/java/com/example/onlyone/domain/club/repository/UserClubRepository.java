@@ -23,6 +23,19 @@ public interface UserClubRepository extends JpaRepository<UserClub,Long> {
 
     List<UserClub> findByUserUserIdIn(Collection<Long> userIds);
 
+    @Query("SELECT DISTINCT uc.club.clubId FROM UserClub uc WHERE uc.user.userId IN :userIds")
+    List<Long> findClubIdByUserIds(@Param("userIds") Collection<Long> userIds);
+
+    // 내 모임 + 내 모임 멤버들이 가입한 모임 (중복 제거는 DB 에서)
+    @Query("""
+        SELECT DISTINCT other.club.clubId
+          FROM UserClub mine
+          JOIN UserClub mate  ON mate.club.clubId = mine.club.clubId
+          JOIN UserClub other ON other.user.userId = mate.user.userId
+         WHERE mine.user.userId = :userId
+    """)
+    List<Long> findReachableClubIds(@Param("userId") Long userId);
+
     @Query("""
     select c,
            (select count(uc2)
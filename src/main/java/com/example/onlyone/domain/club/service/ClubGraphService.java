@@ -0,0 +1,216 @@
+package com.example.onlyone.domain.club.service;
+
+import com.example.onlyone.domain.club.event.ClubMembershipChangedEvent;
+import com.example.onlyone.domain.club.repository.UserClubRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * 유저별 모임 그래프 캐시
+ * - 내가 가입한 모임 + 나와 함께하는 멤버들이 가입한 모임(= 피드를 볼 수 있는 모임)을 정렬된 long 배열로 보관
+ * - club-graph:{userId} 에 [세대][가입 모임 수][가입 모임 id...][도달 가능 모임 id...] 바이너리로 저장
+ * - 가입/탈퇴/생성 커밋 직후(같은 스레드) 영향받는 유저의 세대(club-graph-gen:{userId})를 올려 무효화,
+ *   다음 조회 시 DB 에서 다시 계산
+ * - 세대가 올라가기 전에 DB 를 읽은 조회가 늦게 캐시를 쓰더라도 이전 세대로 기록되므로 읽히지 않는다
+ */
+@Log4j2
+@Service
+@RequiredArgsConstructor
+public class ClubGraphService {
+    private static final String GRAPH_KEY_PREFIX = "club-graph:";
+    private static final String GENERATION_KEY_PREFIX = "club-graph-gen:";
+    private static final Duration GRAPH_TTL = Duration.ofDays(1);
+    // 세대 키는 그래프보다 오래 남아야 이전 세대 그래프를 걸러낼 수 있다
+    private static final Duration GENERATION_TTL = Duration.ofDays(2);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final UserClubRepository userClubRepository;
+
+    /**
+     * 정렬된 모임 id 집합 (joined ⊆ reachable)
+     */
+    public record ClubGraph(long[] joinedClubIds, long[] reachableClubIds) {
+
+        public boolean isJoined(Long clubId) {
+            return clubId != null && Arrays.binarySearch(joinedClubIds, clubId) >= 0;
+        }
+
+        public boolean isReachable(Long clubId) {
+            return clubId != null && Arrays.binarySearch(reachableClubIds, clubId) >= 0;
+        }
+
+        public List<Long> joinedClubIdList() {
+            return toList(joinedClubIds);
+        }
+
+        public List<Long> reachableClubIdList() {
+            return toList(reachableClubIds);
+        }
+
+        // 함께하는 멤버들의 모임 중 아직 가입하지 않은 모임
+        public List<Long> teammateClubIdList() {
+            List<Long> result = new ArrayList<>(reachableClubIds.length - joinedClubIds.length);
+            for (long clubId : reachableClubIds) {
+                if (Arrays.binarySearch(joinedClubIds, clubId) < 0) {
+                    result.add(clubId);
+                }
+            }
+            return result;
+        }
+
+        private static List<Long> toList(long[] ids) {
+            List<Long> result = new ArrayList<>(ids.length);
+            for (long id : ids) {
+                result.add(id);
+            }
+            return result;
+        }
+    }
+
+    public ClubGraph getGraph(Long userId) {
+        byte[] key = bytes(graphKey(userId));
+        byte[] generationKey = bytes(generationKey(userId));
+        long generation = 0;
+        try {
+            List<byte[]> cached = stringRedisTemplate.execute(
+                    (RedisCallback<List<byte[]>>) connection -> connection.stringCommands().mGet(key, generationKey));
+            if (cached != null) {
+                generation = parseGeneration(cached.get(1));
+                ClubGraph graph = cached.get(0) != null ? decode(cached.get(0), generation) : null;
+                if (graph != null) {
+                    return graph;
+                }
+            }
+        } catch (Exception e) {
+            log.warn("Club graph cache read failed: userId={}, error={}", userId, e.getMessage());
+        }
+
+        ClubGraph graph = load(userId);
+        try {
+            byte[] value = encode(graph, generation);
+            stringRedisTemplate.execute((RedisCallback<Boolean>) connection -> connection.stringCommands()
+                    .set(key, value, Expiration.from(GRAPH_TTL), RedisStringCommands.SetOption.upsert()));
+        } catch (Exception e) {
+            log.warn("Club graph cache write failed: userId={}, error={}", userId, e.getMessage());
+        }
+        return graph;
+    }
+
+    public List<Long> getReachableClubIds(Long userId) {
+        return getGraph(userId).reachableClubIdList();
+    }
+
+    public void evict(Collection<Long> userIds) {
+        if (userIds.isEmpty()) return;
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (Long userId : userIds) {
+                byte[] generationKey = bytes(generationKey(userId));
+                connection.stringCommands().incr(generationKey);
+                connection.keyCommands().expire(generationKey, GENERATION_TTL.toSeconds());
+                connection.keyCommands().del(bytes(graphKey(userId)));
+            }
+            return null;
+        });
+    }
+
+    /**
+     * 가입/탈퇴로 보이는 모임 집합이 바뀌는 유저
+     * 당사자 + 해당 모임 멤버 + 당사자가 속한 모임의 멤버
+     */
+    public Set<Long> findAffectedUserIds(Long userId, Long clubId) {
+        Set<Long> clubIds = new HashSet<>(userClubRepository.findClubIdByUserIds(List.of(userId)));
+        clubIds.add(clubId);
+        Set<Long> affected = new HashSet<>(userClubRepository.findUserIdByClubIds(new ArrayList<>(clubIds)));
+        affected.add(userId);
+        return affected;
+    }
+
+    /**
+     * 해당 모임의 피드를 볼 수 있는 유저 (모임 멤버 + 그 멤버들이 속한 모임의 멤버)
+     * 피드 하나에 대해 한 번만 계산해 타임라인 fan-out / 새 피드 push 에 사용
+     */
+    public List<Long> findViewerIds(Long clubId) {
+        List<Long> memberIds = userClubRepository.findUserIdByClubIds(List.of(clubId));
+        if (memberIds.isEmpty()) return Collections.emptyList();
+        List<Long> memberClubIds = userClubRepository.findClubIdByUserIds(memberIds);
+        return userClubRepository.findUserIdByClubIds(memberClubIds);
+    }
+
+    // 가입 직후 검색/피드 조회가 이전 그래프를 보지 않도록 커밋한 스레드에서 바로 무효화
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleMembershipChanged(ClubMembershipChangedEvent event) {
+        try {
+            evict(findAffectedUserIds(event.getUserId(), event.getClubId()));
+        } catch (Exception e) {
+            log.error("Club graph invalidation failed: userId={}, clubId={}, error={}",
+                    event.getUserId(), event.getClubId(), e.getMessage());
+        }
+    }
+
+    private ClubGraph load(Long userId) {
+        long[] joined = toSortedArray(userClubRepository.findClubIdByUserIds(List.of(userId)));
+        long[] reachable = joined.length == 0
+                ? joined
+                : toSortedArray(userClubRepository.findReachableClubIds(userId));
+        return new ClubGraph(joined, reachable);
+    }
+
+    private long[] toSortedArray(List<Long> ids) {
+        long[] result = new long[ids.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = ids.get(i);
+        }
+        Arrays.sort(result);
+        return result;
+    }
+
+    private byte[] encode(ClubGraph graph, long generation) {
+        ByteBuffer buffer = ByteBuffer.allocate(Long.BYTES + Integer.BYTES
+                + Long.BYTES * (graph.joinedClubIds().length + graph.reachableClubIds().length));
+        buffer.putLong(generation);
+        buffer.putInt(graph.joinedClubIds().length);
+        for (long id : graph.joinedClubIds()) buffer.putLong(id);
+        for (long id : graph.reachableClubIds()) buffer.putLong(id);
+        return buffer.array();
+    }
+
+    // 현재 세대와 다르면 무효화 이전에 계산된 그래프이므로 null
+    private ClubGraph decode(byte[] raw, long expectedGeneration) {
+        ByteBuffer buffer = ByteBuffer.wrap(raw);
+        if (buffer.getLong() != expectedGeneration) return null;
+        long[] joined = new long[buffer.getInt()];
+        for (int i = 0; i < joined.length; i++) joined[i] = buffer.getLong();
+        long[] reachable = new long[buffer.remaining() / Long.BYTES];
+        for (int i = 0; i < reachable.length; i++) reachable[i] = buffer.getLong();
+        return new ClubGraph(joined, reachable);
+    }
+
+    private long parseGeneration(byte[] raw) {
+        return raw != null ? Long.parseLong(new String(raw, StandardCharsets.UTF_8)) : 0L;
+    }
+
+    // 그래프/세대 키가 Redis Cluster 에서 같은 슬롯에 오도록 hash tag 사용
+    private String graphKey(Long userId) {
+        return GRAPH_KEY_PREFIX + "{" + userId + "}";
+    }
+
+    private String generationKey(Long userId) {
+        return GENERATION_KEY_PREFIX + "{" + userId + "}";
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
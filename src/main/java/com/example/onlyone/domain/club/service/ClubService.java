@@ -13,6 +13,7 @@ import com.example.onlyone.domain.club.dto.response.ClubNameResponseDto;
 import com.example.onlyone.domain.club.entity.Club;
 import com.example.onlyone.domain.club.entity.ClubRole;
 import com.example.onlyone.domain.club.entity.UserClub;
+import com.example.onlyone.domain.club.event.ClubMembershipChangedEvent;
 import com.example.onlyone.domain.club.repository.ClubRepository;
 import com.example.onlyone.domain.club.repository.UserClubRepository;
 import com.example.onlyone.domain.feed.repository.FeedRepository;
@@ -25,6 +26,7 @@ import com.example.onlyone.global.exception.CustomException;
 import com.example.onlyone.global.exception.ErrorCode;
 import org.springframework.transaction.annotation.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.stereotype.Service;
 
@@ -43,6 +45,7 @@ public class ClubService {
     private final ChatRoomRepository chatRoomRepository;
     private final UserService userService;
     private final UserChatRoomRepository userChatRoomRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /* 모임 생성*/
     public ClubCreateResponseDto createClub(ClubRequestDto requestDto) {
@@ -71,6 +74,7 @@ public class ClubService {
                 .chatRole(ChatRole.LEADER)
                 .build();
         userChatRoomRepository.save(userChatRoom);
+        eventPublisher.publishEvent(new ClubMembershipChangedEvent(user.getUserId(), club.getClubId(), true));
         return new ClubCreateResponseDto(club.getClubId());
     }
 
@@ -138,6 +142,7 @@ public class ClubService {
                 .chatRole(ChatRole.MEMBER)
                 .build();
         userChatRoomRepository.save(userChatRoom);
+        eventPublisher.publishEvent(new ClubMembershipChangedEvent(user.getUserId(), clubId, true));
     }
 
     /* 모임 탈퇴*/
@@ -154,6 +159,7 @@ public class ClubService {
             throw new CustomException(ErrorCode.CLUB_LEADER_NOT_LEAVE);
         }
         userClubRepository.delete(userClub);
+        eventPublisher.publishEvent(new ClubMembershipChangedEvent(user.getUserId(), clubId, false));
     }
 
 //    /* 가입하고 있는 모임 조회*/
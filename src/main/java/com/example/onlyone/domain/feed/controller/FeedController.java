@@ -3,21 +3,24 @@ package com.example.onlyone.domain.feed.controller;
 import com.example.onlyone.domain.feed.dto.request.FeedCommentRequestDto;
 import com.example.onlyone.domain.feed.dto.request.FeedRequestDto;
 import com.example.onlyone.domain.feed.dto.response.FeedDetailResponseDto;
+import com.example.onlyone.domain.feed.dto.response.FeedLikeResponseDto;
 import com.example.onlyone.domain.feed.dto.response.FeedSummaryResponseDto;
 import com.example.onlyone.domain.feed.service.FeedService;
+import com.example.onlyone.domain.feed.service.FeedVersionService;
 import com.example.onlyone.global.common.CommonResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.security.Principal;
 import java.util.List;
 
 @RestController
@@ -26,6 +29,7 @@ import java.util.List;
 @RequestMapping("/clubs/{clubId}/feeds")
 public class FeedController {
     private final FeedService feedService;
+    private final FeedVersionService feedVersionService;
 
     @Operation(summary = "피드 생성", description = "피드를 생성합니다.")
     @PostMapping
@@ -54,29 +58,35 @@ public class FeedController {
     @GetMapping
     public ResponseEntity<?> getFeedList(@PathVariable("clubId") Long clubId,
                                          @RequestParam(name = "page", defaultValue = "0") int page,
-                                         @RequestParam(name = "limit", defaultValue = "20") int limit) {
-        Pageable pageable = PageRequest.of(page, limit, Sort.by("createdAt").descending());
-        Page<FeedSummaryResponseDto> feedList = feedService.getFeedList(clubId, pageable);
-        return ResponseEntity.status(HttpStatus.OK).body(CommonResponse.success(feedList));
+                                         @RequestParam(name = "limit", defaultValue = "20") int limit,
+                                         WebRequest request) {
+        String eTag = feedVersionService.clubFeedsETag(clubId, page, limit);
+        if (request.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        // 정렬(created_at, feed_id 내림차순)은 그리드 쿼리에 고정
+        Pageable pageable = PageRequest.of(page, limit);
+        Slice<FeedSummaryResponseDto> feedList = feedService.getFeedList(clubId, pageable);
+        return ResponseEntity.status(HttpStatus.OK).eTag(eTag).body(CommonResponse.success(feedList));
     }
 
     @Operation(summary = "피드 상세 조회", description = "피드를 상세 조회합니다.")
     @GetMapping("/{feedId}")
-    public ResponseEntity<?> getFeedDetail(@PathVariable("clubId") Long clubId, @PathVariable("feedId") Long feedId) {
+    public ResponseEntity<?> getFeedDetail(@PathVariable("clubId") Long clubId, @PathVariable("feedId") Long feedId,
+                                           Principal principal, WebRequest request) {
+        String eTag = feedVersionService.feedDetailETag(clubId, feedId, principal != null ? principal.getName() : "");
+        if (request.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
         FeedDetailResponseDto feedDetailResponseDto = feedService.getFeedDetail(clubId, feedId);
-        return ResponseEntity.status(HttpStatus.OK).body(CommonResponse.success(feedDetailResponseDto));
+        return ResponseEntity.status(HttpStatus.OK).eTag(eTag).body(CommonResponse.success(feedDetailResponseDto));
     }
 
     @Operation(summary = "좋아요 토글", description = "좋아요를 추가하거나 취소합니다.")
     @PutMapping("/{feedId}/likes")
     public ResponseEntity<?> toggleLike(@PathVariable("clubId") Long clubId, @PathVariable("feedId") Long feedId) {
-        boolean liked = feedService.toggleLike(clubId, feedId);
-
-        if (liked) {
-            return ResponseEntity.status(HttpStatus.OK).body(CommonResponse.success(null));
-        } else {
-            return ResponseEntity.status(HttpStatus.NO_CONTENT).body(null);
-        }
+        FeedLikeResponseDto feedLikeResponseDto = feedService.toggleLike(clubId, feedId);
+        return ResponseEntity.ok(CommonResponse.success(feedLikeResponseDto));
     }
 
     @Operation(summary = "댓글 생성", description = "댓글을 생성합니다.")
@@ -0,0 +1,54 @@
+package com.example.onlyone.domain.feed.dto.request;
+
+import com.example.onlyone.global.exception.CustomException;
+import com.example.onlyone.global.exception.ErrorCode;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+
+/**
+ * 댓글 목록 keyset 커서 (작성 시각 epoch micros, comment_id)
+ * 댓글은 오래된 순으로 내려가므로 커서 "이후" 항목을 조회한다.
+ */
+@Getter
+@AllArgsConstructor
+public class FeedCommentCursor {
+    private static final String DELIMITER = ":";
+
+    private final long createdAtMicros;
+    private final Long commentId;
+
+    public static FeedCommentCursor of(LocalDateTime createdAt, Long commentId) {
+        Instant instant = createdAt.atZone(ZoneId.systemDefault()).toInstant();
+        return new FeedCommentCursor(ChronoUnit.MICROS.between(Instant.EPOCH, instant), commentId);
+    }
+
+    public LocalDateTime getCreatedAt() {
+        Instant instant = Instant.EPOCH.plus(createdAtMicros, ChronoUnit.MICROS);
+        return LocalDateTime.ofInstant(instant, ZoneId.systemDefault());
+    }
+
+    public String encode() {
+        String raw = createdAtMicros + DELIMITER + commentId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static FeedCommentCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split(DELIMITER);
+            return new FeedCommentCursor(Long.parseLong(parts[0]), Long.parseLong(parts[1]));
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+            throw new CustomException(ErrorCode.INVALID_COMMENT_CURSOR);
+        }
+    }
+}
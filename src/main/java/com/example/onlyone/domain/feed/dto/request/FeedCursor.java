@@ -0,0 +1,62 @@
+package com.example.onlyone.domain.feed.dto.request;
+
+import com.example.onlyone.global.exception.CustomException;
+import com.example.onlyone.global.exception.ErrorCode;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+
+/**
+ * 피드 목록 keyset 커서 (정렬 키, feed_id)
+ * - 최신순: 정렬 키 = 작성 시각(epoch micros)
+ * - 인기순: 정렬 키 = popularity_score
+ * 클라이언트에는 Base64 문자열로만 노출한다.
+ */
+@Getter
+@AllArgsConstructor
+public class FeedCursor {
+    private static final String DELIMITER = ":";
+
+    private final double sortKey;
+    private final Long feedId;
+
+    public static FeedCursor ofCreatedAt(LocalDateTime createdAt, Long feedId) {
+        return new FeedCursor(toSortKey(createdAt), feedId);
+    }
+
+    // datetime(6) 정밀도를 그대로 보존하도록 micros 단위 사용 (double 로 정확히 표현 가능한 범위)
+    public static double toSortKey(LocalDateTime createdAt) {
+        Instant instant = (createdAt != null ? createdAt : LocalDateTime.now())
+                .atZone(ZoneId.systemDefault()).toInstant();
+        return ChronoUnit.MICROS.between(Instant.EPOCH, instant);
+    }
+
+    public LocalDateTime getCreatedAt() {
+        Instant instant = Instant.EPOCH.plus((long) sortKey, ChronoUnit.MICROS);
+        return LocalDateTime.ofInstant(instant, ZoneId.systemDefault());
+    }
+
+    public String encode() {
+        String raw = sortKey + DELIMITER + feedId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static FeedCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split(DELIMITER);
+            return new FeedCursor(Double.parseDouble(parts[0]), Long.parseLong(parts[1]));
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+            throw new CustomException(ErrorCode.INVALID_FEED_CURSOR);
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.example.onlyone.domain.feed.dto.response;
 
 import com.example.onlyone.domain.feed.entity.Feed;
 import com.example.onlyone.domain.feed.entity.FeedComment;
+import com.example.onlyone.domain.feed.repository.FeedCommentRepository.FeedCommentRow;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -33,4 +34,16 @@ public class FeedCommentResponseDto {
                 .isCommentMine(comment.getUser().getUserId().equals(userId))
                 .build();
     }
+
+    public static FeedCommentResponseDto from(FeedCommentRow row, Long userId) {
+        return FeedCommentResponseDto.builder()
+                .commentId(row.getCommentId())
+                .userId(row.getUserId())
+                .nickname(row.getNickname())
+                .profileImage(row.getProfileImage())
+                .content(row.getContent())
+                .createdAt(row.getCreatedAt())
+                .isCommentMine(row.getUserId().equals(userId))
+                .build();
+    }
 }
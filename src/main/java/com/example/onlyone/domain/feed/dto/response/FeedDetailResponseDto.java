@@ -17,6 +17,8 @@ public class FeedDetailResponseDto {
     private int likeCount;
     private int commentCount;
     private Long repostCount;
+    // 리피드의 리피드까지 포함한 전체 전파 규모
+    private long cascadeCount;
 
     private Long userId;
     private String nickname;
@@ -27,22 +29,28 @@ public class FeedDetailResponseDto {
     private boolean isLiked;
     private boolean isFeedMine;
 
+    // 첫 페이지 댓글만 포함, 이후는 댓글 목록 API 에 nextCommentCursor 로 이어서 조회
     private List<FeedCommentResponseDto> comments;
+    private String nextCommentCursor;
+    private boolean hasMoreComments;
 
-    public static FeedDetailResponseDto from(Feed feed, List<String> imageUrls, boolean isLiked, boolean isFeedMine, List<FeedCommentResponseDto> comments, long repostCount) {
+    public static FeedDetailResponseDto from(Feed feed, List<String> imageUrls, boolean isLiked, boolean isFeedMine, long cascadeCount, FeedCommentListResponseDto comments) {
         return FeedDetailResponseDto.builder()
                 .content(feed.getContent())
                 .imageUrls(imageUrls)
-                .likeCount(feed.getFeedLikes().size())
-                .commentCount(feed.getFeedComments().size())
-                .repostCount(repostCount)
+                .likeCount(feed.getLikeCount())
+                .commentCount(feed.getCommentCount())
+                .repostCount(feed.getRepostCount())
+                .cascadeCount(cascadeCount)
                 .userId(feed.getUser().getUserId())
                 .nickname(feed.getUser().getNickname())
                 .profileImage(feed.getUser().getProfileImage())
                 .updatedAt(feed.getModifiedAt())
                 .isLiked(isLiked)
                 .isFeedMine(isFeedMine)
-                .comments(comments)
+                .comments(comments.getComments())
+                .nextCommentCursor(comments.getNextCursor())
+                .hasMoreComments(comments.isHasMore())
                 .build();
     }
 }
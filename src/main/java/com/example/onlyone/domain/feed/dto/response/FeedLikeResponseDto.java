@@ -0,0 +1,13 @@
+package com.example.onlyone.domain.feed.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Builder
+@Getter
+@AllArgsConstructor
+public class FeedLikeResponseDto {
+    private boolean isLiked;
+    private long likeCount;
+}
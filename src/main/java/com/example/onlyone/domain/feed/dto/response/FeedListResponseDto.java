@@ -0,0 +1,20 @@
+package com.example.onlyone.domain.feed.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 피드 목록 응답 (keyset 커서 페이징)
+ */
+@Getter
+@Builder
+public class FeedListResponseDto {
+
+    private final List<FeedOverviewDto> feeds;
+
+    private final String nextCursor;
+
+    private final boolean hasMore;
+}
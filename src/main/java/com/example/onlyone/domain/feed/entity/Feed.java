@@ -6,6 +6,7 @@ import com.example.onlyone.global.BaseTimeEntity;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.SQLDelete;
 import org.hibernate.annotations.SQLRestriction;
 import org.hibernate.annotations.SoftDelete;
@@ -22,11 +23,18 @@ import java.util.List;
                         name = "uq_refeed_once",
                         columnNames = {"user_id", "parent_feed_id", "club_id"}
                 )
+        },
+        indexes = {
+                @Index(name = "idx_feed_club_created", columnList = "club_id, created_at, feed_id"),
+                @Index(name = "idx_feed_club_score", columnList = "club_id, popularity_score, feed_id"),
+                @Index(name = "idx_feed_club_parent_created", columnList = "club_id, parent_feed_id, created_at"),
+                @Index(name = "idx_feed_deleted_at", columnList = "deleted, deleted_at")
         })
 @Getter
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor
+@DynamicUpdate
 @SQLDelete(sql = "UPDATE feed SET deleted = true, deleted_at = now() WHERE feed_id = ?")
 @SQLRestriction("deleted = false")
 public class Feed extends BaseTimeEntity {
@@ -78,10 +86,45 @@ public class Feed extends BaseTimeEntity {
     @OneToMany(mappedBy = "feed", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<FeedImage> feedImages = new ArrayList<>();
 
+    // 인기 점수 (FeedScoreFunction 으로 계산, 좋아요/댓글/리피드 시 갱신)
+    @Builder.Default
+    @Column(name = "popularity_score", nullable = false)
+    private double popularityScore = 0;
+
+    // 목록 렌더링 시 연관 컬렉션을 초기화하지 않도록 비정규화한 카운터 (FeedRepository 원자적 UPDATE 로만 변경)
+    @Builder.Default
+    @Column(name = "like_count", nullable = false)
+    private int likeCount = 0;
+
+    @Builder.Default
+    @Column(name = "comment_count", nullable = false)
+    private int commentCount = 0;
+
+    @Builder.Default
+    @Column(name = "repost_count", nullable = false)
+    private long repostCount = 0L;
+
+    // 조회 통계 (FeedViewService 가 주기적으로 반영, 고유 조회자는 HyperLogLog 추정치)
+    @Builder.Default
+    @Column(name = "view_count", nullable = false)
+    private long viewCount = 0L;
+
+    @Builder.Default
+    @Column(name = "impression_count", nullable = false)
+    private long impressionCount = 0L;
+
+    @Builder.Default
+    @Column(name = "unique_viewer_count", nullable = false)
+    private long uniqueViewerCount = 0L;
+
     public void update(String content) {
         this.content = content;
     }
 
+    public void updatePopularityScore(double popularityScore) {
+        this.popularityScore = popularityScore;
+    }
+
     @Column(name = "deleted", nullable = false)
     private boolean deleted = false;
 
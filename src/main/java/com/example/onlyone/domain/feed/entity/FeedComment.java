@@ -10,7 +10,10 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "feed_comment")
+@Table(
+        name = "feed_comment",
+        indexes = @Index(name = "idx_feed_comment_feed_created", columnList = "feed_id, created_at, feed_comment_id")
+)
 @Getter
 @NoArgsConstructor
 @Builder
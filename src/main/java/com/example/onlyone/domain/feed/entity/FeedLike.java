@@ -7,7 +7,11 @@ import jakarta.validation.constraints.NotNull;
 import lombok.*;
 
 @Entity
-@Table(name = "feed_like")
+@Table(
+        name = "feed_like",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uq_feed_like_user", columnNames = {"feed_id", "user_id"})
+        })
 @Getter
 @Builder
 @AllArgsConstructor
@@ -0,0 +1,40 @@
+package com.example.onlyone.domain.feed.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 리피드 계보 closure table
+ * 조상 피드 -> 후손 피드 경로마다 한 행 (depth 1 = 직접 리피드)
+ * 삭제된 피드가 포함된 경로는 삭제 시점에 제거되므로 살아있는 피드만 남는다.
+ */
+@Entity
+@Table(
+        name = "feed_lineage",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uq_feed_lineage", columnNames = {"ancestor_id", "descendant_id"})
+        },
+        indexes = {
+                @Index(name = "idx_feed_lineage_ancestor_depth", columnList = "ancestor_id, depth"),
+                @Index(name = "idx_feed_lineage_descendant", columnList = "descendant_id")
+        })
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class FeedLineage {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "feed_lineage_id", updatable = false)
+    private Long feedLineageId;
+
+    @Column(name = "ancestor_id", nullable = false)
+    private Long ancestorId;
+
+    @Column(name = "descendant_id", nullable = false)
+    private Long descendantId;
+
+    @Column(name = "depth", nullable = false)
+    private int depth;
+}
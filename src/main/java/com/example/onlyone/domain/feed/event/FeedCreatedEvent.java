@@ -0,0 +1,18 @@
+package com.example.onlyone.domain.feed.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 피드(원본/리피드) 생성 이벤트 - 트랜잭션 커밋 후 타임라인 fan-out / 새 피드 알림 push 에 사용
+ */
+@Getter
+@RequiredArgsConstructor
+public class FeedCreatedEvent {
+    private final Long feedId;
+    private final Long clubId;
+    private final LocalDateTime createdAt;
+    private final Long authorId;
+}
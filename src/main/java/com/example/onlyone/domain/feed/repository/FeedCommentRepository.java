@@ -4,9 +4,61 @@ import com.example.onlyone.domain.feed.entity.Feed;
 import com.example.onlyone.domain.feed.entity.FeedComment;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface FeedCommentRepository extends JpaRepository<FeedComment, Long> {
-    List<FeedComment> findByFeedOrderByCreatedAt(Feed feed, Pageable pageable);
+    long countByFeed(Feed feed);
+
+    // 삭제 피드 정리용
+    @Modifying
+    @Query(value = "DELETE FROM feed_comment WHERE feed_id IN (:feedIds)", nativeQuery = true)
+    int deleteAllByFeedIds(@Param("feedIds") Collection<Long> feedIds);
+
+    // 댓글 목록: 작성자를 같은 쿼리에서 조인, (created_at, comment_id) 오름차순 keyset
+    @Query("""
+        SELECT c.feedCommentId AS commentId,
+               c.content       AS content,
+               c.createdAt     AS createdAt,
+               u.userId        AS userId,
+               u.nickname      AS nickname,
+               u.profileImage  AS profileImage
+          FROM FeedComment c
+          JOIN c.user u
+         WHERE c.feed.feedId = :feedId
+         ORDER BY c.createdAt ASC, c.feedCommentId ASC
+    """)
+    List<FeedCommentRow> findCommentRows(@Param("feedId") Long feedId, Pageable pageable);
+
+    @Query("""
+        SELECT c.feedCommentId AS commentId,
+               c.content       AS content,
+               c.createdAt     AS createdAt,
+               u.userId        AS userId,
+               u.nickname      AS nickname,
+               u.profileImage  AS profileImage
+          FROM FeedComment c
+          JOIN c.user u
+         WHERE c.feed.feedId = :feedId
+           AND (c.createdAt > :createdAt OR (c.createdAt = :createdAt AND c.feedCommentId > :commentId))
+         ORDER BY c.createdAt ASC, c.feedCommentId ASC
+    """)
+    List<FeedCommentRow> findCommentRowsAfterCursor(@Param("feedId") Long feedId,
+                                                    @Param("createdAt") LocalDateTime createdAt,
+                                                    @Param("commentId") Long commentId,
+                                                    Pageable pageable);
+
+    interface FeedCommentRow {
+        Long getCommentId();
+        String getContent();
+        LocalDateTime getCreatedAt();
+        Long getUserId();
+        String getNickname();
+        String getProfileImage();
+    }
 }
@@ -0,0 +1,31 @@
+package com.example.onlyone.domain.feed.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * feed_image 다건 INSERT (IDENTITY 전략이라 Hibernate 배치가 꺼지므로 JDBC batch 로 직접 실행)
+ * 커넥션 풀에 rewriteBatchedStatements=true 를 켜 두므로(DataSourceConfig) multi-row INSERT 한 번으로 전송된다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class FeedImageJdbcRepository {
+    private static final String INSERT_SQL = """
+            INSERT INTO feed_image (feed_id, feed_image, created_at, modified_at)
+            VALUES (?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void insertAll(Long feedId, List<String> imageUrls) {
+        if (imageUrls.isEmpty()) return;
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.batchUpdate(INSERT_SQL, imageUrls.stream()
+                .map(url -> new Object[]{feedId, url, now, now})
+                .toList());
+    }
+}
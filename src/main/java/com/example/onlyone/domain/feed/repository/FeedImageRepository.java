@@ -0,0 +1,32 @@
+package com.example.onlyone.domain.feed.repository;
+
+import com.example.onlyone.domain.feed.entity.FeedImage;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface FeedImageRepository extends JpaRepository<FeedImage, Long> {
+
+    // 여러 피드의 이미지 URL 을 등록 순서대로 한 번에 조회
+    @Query("""
+        SELECT fi.feed.feedId AS feedId, fi.feedImage AS imageUrl
+          FROM FeedImage fi
+         WHERE fi.feed.feedId IN :feedIds
+         ORDER BY fi.feed.feedId, fi.feedImageId
+    """)
+    List<FeedImageRow> findImageRowsByFeedIds(@Param("feedIds") Collection<Long> feedIds);
+
+    interface FeedImageRow {
+        Long getFeedId();
+        String getImageUrl();
+    }
+
+    // 삭제 피드 정리용
+    @Modifying
+    @Query(value = "DELETE FROM feed_image WHERE feed_id IN (:feedIds)", nativeQuery = true)
+    int deleteAllByFeedIds(@Param("feedIds") Collection<Long> feedIds);
+}
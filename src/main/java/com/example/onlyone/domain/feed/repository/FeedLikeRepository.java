@@ -4,11 +4,47 @@ import com.example.onlyone.domain.feed.entity.Feed;
 import com.example.onlyone.domain.feed.entity.FeedLike;
 import com.example.onlyone.domain.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 public interface FeedLikeRepository extends JpaRepository<FeedLike, Long> {
     Optional<FeedLike> findByFeedAndUser(Feed feed, User user);
 
     int countByFeed(Feed feed);
+
+    // 좋아요 버퍼(Redis) 초기 적재용
+    @Query("SELECT fl.user.userId FROM FeedLike fl WHERE fl.feed.feedId = :feedId")
+    List<Long> findUserIdsByFeedId(@Param("feedId") Long feedId);
+
+    // 버퍼 flush 용: 이미 있으면 무시 (uq_feed_like_user), 재처리되어도 결과가 같도록
+    @Modifying
+    @Query(value = """
+        INSERT IGNORE INTO feed_like (feed_id, user_id, created_at, modified_at)
+        VALUES (:feedId, :userId, NOW(6), NOW(6))
+    """, nativeQuery = true)
+    int insertIgnore(@Param("feedId") Long feedId, @Param("userId") Long userId);
+
+    @Modifying
+    @Query("DELETE FROM FeedLike fl WHERE fl.feed.feedId = :feedId AND fl.user.userId = :userId")
+    int deleteByFeedIdAndUserId(@Param("feedId") Long feedId, @Param("userId") Long userId);
+
+    // 삭제 피드 정리용
+    @Modifying
+    @Query(value = "DELETE FROM feed_like WHERE feed_id IN (:feedIds)", nativeQuery = true)
+    int deleteAllByFeedIds(@Param("feedIds") Collection<Long> feedIds);
+
+    // 목록 한 페이지(부모/루트 포함)에서 내가 좋아요한 피드 id 만 한 번에 조회
+    @Query("""
+        SELECT fl.feed.feedId
+          FROM FeedLike fl
+         WHERE fl.user.userId = :userId
+           AND fl.feed.feedId IN :feedIds
+    """)
+    Set<Long> findLikedFeedIds(@Param("userId") Long userId, @Param("feedIds") Collection<Long> feedIds);
 }
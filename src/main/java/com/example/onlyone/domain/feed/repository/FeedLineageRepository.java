@@ -0,0 +1,68 @@
+package com.example.onlyone.domain.feed.repository;
+
+import com.example.onlyone.domain.feed.entity.FeedLineage;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface FeedLineageRepository extends JpaRepository<FeedLineage, Long> {
+
+    // 새 리피드: 부모까지의 모든 조상 경로를 한 단계씩 늘려서 복사 + 부모 -> 나
+    @Modifying
+    @Query(value = """
+        INSERT INTO feed_lineage (ancestor_id, descendant_id, depth)
+        SELECT l.ancestor_id, :feedId, l.depth + 1
+          FROM feed_lineage l
+         WHERE l.descendant_id = :parentId
+        UNION ALL
+        SELECT :parentId, :feedId, 1
+    """, nativeQuery = true)
+    int insertPaths(@Param("feedId") Long feedId, @Param("parentId") Long parentId);
+
+    long countByAncestorId(Long ancestorId);
+
+    @Query("SELECT l.descendantId FROM FeedLineage l WHERE l.ancestorId = :feedId")
+    List<Long> findDescendantIds(@Param("feedId") Long feedId);
+
+    @Query("SELECT l.descendantId FROM FeedLineage l WHERE l.ancestorId = :feedId AND l.depth = 1")
+    List<Long> findChildIds(@Param("feedId") Long feedId);
+
+    @Query("SELECT l.ancestorId FROM FeedLineage l WHERE l.descendantId = :feedId")
+    List<Long> findAncestorIds(@Param("feedId") Long feedId);
+
+    // 삭제 피드 정리용: 삭제 시 detach 로 대부분 제거되지만 남은 경로가 있으면 함께 정리
+    @Modifying
+    @Query("DELETE FROM FeedLineage l WHERE l.ancestorId IN :feedIds OR l.descendantId IN :feedIds")
+    int deleteAllByFeedIds(@Param("feedIds") Collection<Long> feedIds);
+
+    // 서브트리를 위쪽 계보에서 떼어낼 때: (위쪽 조상들) x (서브트리) 경로 제거
+    @Modifying
+    @Query("DELETE FROM FeedLineage l WHERE l.ancestorId IN :ancestorIds AND l.descendantId IN :descendantIds")
+    int deletePaths(@Param("ancestorIds") Collection<Long> ancestorIds,
+                    @Param("descendantIds") Collection<Long> descendantIds);
+
+    // 계보 보정 배치용: parent_feed_id 체인으로 누락된 경로만 채움 (이미 있으면 무시)
+    @Modifying
+    @Query(value = """
+        INSERT IGNORE INTO feed_lineage (ancestor_id, descendant_id, depth)
+        WITH RECURSIVE chain (descendant_id, ancestor_id, depth) AS (
+            SELECT f.feed_id, f.parent_feed_id, 1
+              FROM feed f
+             WHERE f.parent_feed_id IS NOT NULL
+               AND f.deleted = false
+            UNION ALL
+            SELECT c.descendant_id, p.parent_feed_id, c.depth + 1
+              FROM chain c
+              JOIN feed p ON p.feed_id = c.ancestor_id
+             WHERE p.parent_feed_id IS NOT NULL
+               AND p.deleted = false
+        )
+        SELECT c.ancestor_id, c.descendant_id, c.depth
+          FROM chain c
+    """, nativeQuery = true)
+    int insertMissingPaths();
+}
@@ -2,92 +2,270 @@ package com.example.onlyone.domain.feed.repository;
 
 import com.example.onlyone.domain.club.entity.Club;
 import com.example.onlyone.domain.feed.entity.Feed;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface FeedRepository extends JpaRepository<Feed,Long> {
-    long countByParentFeedId(Long feedId);
-
-    @Query(
-            value = """
-                select parent_feed_id as parentId, count(*) as cnt
-                from feed
-                where parent_feed_id in (:feedIds)
-                    and deleted = false
-                group by parent_feed_id
-            """,
-            nativeQuery = true
-    )
-    List<ParentRepostCount> countDirectRepostsIn(@Param("feedIds") List<Long> feedIds);
-
-    interface ParentRepostCount {
-        Long getParentId();
-        Long getCnt();
-    }
-
     Optional<Feed> findByFeedIdAndClub(Long feedId, Club club);
 
-    Page<Feed> findByClubAndParentFeedIdIsNull(Club club, Pageable pageable);
+    // 모임 피드 썸네일 그리드: 원본 피드의 (id, 첫 이미지, 카운터)만 한 번에 조회, Slice 라 count 쿼리 없음
+    @Query("""
+        SELECT f.feedId       AS feedId,
+               (SELECT fi.feedImage
+                  FROM FeedImage fi
+                 WHERE fi.feedImageId = (SELECT MIN(fi2.feedImageId) FROM FeedImage fi2 WHERE fi2.feed = f)
+               )              AS thumbnailUrl,
+               f.likeCount    AS likeCount,
+               f.commentCount AS commentCount
+          FROM Feed f
+         WHERE f.club.clubId = :clubId
+           AND f.parentFeedId IS NULL
+         ORDER BY f.createdAt DESC, f.feedId DESC
+    """)
+    Slice<FeedGridRow> findGridRowsByClubId(@Param("clubId") Long clubId, Pageable pageable);
+
+    interface FeedGridRow {
+        Long getFeedId();
+        String getThumbnailUrl();
+        Integer getLikeCount();
+        Integer getCommentCount();
+    }
 
     Feed findByFeedId(Long feedId);
 
-    @Query("SELECT f FROM Feed f WHERE f.club.clubId IN :clubIds")
-    List<Feed> findByClubIds(List<Long> clubIds, Pageable pageable);
+    // 최신순 목록 / 타임라인 재구성용: (created_at, feed_id) keyset 으로 id 와 정렬 키만 조회
+    @Query("""
+        SELECT f.feedId AS feedId, f.createdAt AS createdAt
+          FROM Feed f
+         WHERE f.club.clubId IN :clubIds
+         ORDER BY f.createdAt DESC, f.feedId DESC
+    """)
+    List<TimelineEntry> findTimelineEntriesByClubIds(@Param("clubIds") List<Long> clubIds, Pageable pageable);
+
+    @Query("""
+        SELECT f.feedId AS feedId, f.createdAt AS createdAt
+          FROM Feed f
+         WHERE f.club.clubId IN :clubIds
+           AND (f.createdAt < :createdAt OR (f.createdAt = :createdAt AND f.feedId < :feedId))
+         ORDER BY f.createdAt DESC, f.feedId DESC
+    """)
+    List<TimelineEntry> findTimelineEntriesBeforeCursor(@Param("clubIds") List<Long> clubIds,
+                                                        @Param("createdAt") LocalDateTime createdAt,
+                                                        @Param("feedId") Long feedId,
+                                                        Pageable pageable);
+
+    interface TimelineEntry {
+        Long getFeedId();
+        LocalDateTime getCreatedAt();
+    }
+
+    // 인기순 목록: 저장된 popularity_score 기준 (score, feed_id) keyset
+    @Query("""
+        SELECT f.feedId AS feedId, f.popularityScore AS popularityScore
+          FROM Feed f
+         WHERE f.club.clubId IN :clubIds
+         ORDER BY f.popularityScore DESC, f.feedId DESC
+    """)
+    List<PopularEntry> findPopularEntriesByClubIds(@Param("clubIds") List<Long> clubIds, Pageable pageable);
+
+    @Query("""
+        SELECT f.feedId AS feedId, f.popularityScore AS popularityScore
+          FROM Feed f
+         WHERE f.club.clubId IN :clubIds
+           AND (f.popularityScore < :score OR (f.popularityScore = :score AND f.feedId < :feedId))
+         ORDER BY f.popularityScore DESC, f.feedId DESC
+    """)
+    List<PopularEntry> findPopularEntriesBeforeCursor(@Param("clubIds") List<Long> clubIds,
+                                                      @Param("score") double score,
+                                                      @Param("feedId") Long feedId,
+                                                      Pageable pageable);
+
+    interface PopularEntry {
+        Long getFeedId();
+        Double getPopularityScore();
+    }
+
+    // 목록 카드 렌더링용 읽기 모델: 작성자/모임/카운터를 엔티티 탐색 없이 한 번에 조회
+    @Query("""
+        SELECT f.feedId        AS feedId,
+               f.club.clubId   AS clubId,
+               f.parentFeedId  AS parentFeedId,
+               f.rootFeedId    AS rootFeedId,
+               f.content       AS content,
+               f.createdAt     AS createdAt,
+               f.likeCount     AS likeCount,
+               f.commentCount  AS commentCount,
+               f.repostCount   AS repostCount,
+               u.userId        AS userId,
+               u.nickname      AS nickname,
+               u.profileImage  AS profileImage
+          FROM Feed f
+          JOIN f.user u
+         WHERE f.feedId IN :feedIds
+    """)
+    List<FeedCardRow> findCardRowsByIds(@Param("feedIds") Collection<Long> feedIds);
+
+    interface FeedCardRow {
+        Long getFeedId();
+        Long getClubId();
+        Long getParentFeedId();
+        Long getRootFeedId();
+        String getContent();
+        LocalDateTime getCreatedAt();
+        Integer getLikeCount();
+        Integer getCommentCount();
+        Long getRepostCount();
+        Long getUserId();
+        String getNickname();
+        String getProfileImage();
+    }
+
+    @Modifying
+    @Query("UPDATE Feed f SET f.popularityScore = :score WHERE f.feedId = :feedId")
+    int updatePopularityScore(@Param("feedId") Long feedId, @Param("score") double score);
+
+    // 카운터 원자적 증감 (영속성 컨텍스트의 Feed 카운터 필드는 갱신되지 않음)
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        UPDATE Feed f
+           SET f.likeCount = CASE WHEN f.likeCount + :delta < 0 THEN 0 ELSE f.likeCount + :delta END
+         WHERE f.feedId = :feedId
+    """)
+    int adjustLikeCount(@Param("feedId") Long feedId, @Param("delta") int delta);
+
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        UPDATE Feed f
+           SET f.commentCount = CASE WHEN f.commentCount + :delta < 0 THEN 0 ELSE f.commentCount + :delta END
+         WHERE f.feedId = :feedId
+    """)
+    int adjustCommentCount(@Param("feedId") Long feedId, @Param("delta") int delta);
 
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        UPDATE Feed f
+           SET f.repostCount = CASE WHEN f.repostCount + :delta < 0 THEN 0 ELSE f.repostCount + :delta END
+         WHERE f.feedId = :feedId
+    """)
+    int adjustRepostCount(@Param("feedId") Long feedId, @Param("delta") long delta);
+
+    // 좋아요 버퍼 flush 후 실제 feed_like 행 수로 카운터 맞춤 (재처리되어도 같은 값으로 수렴)
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+        UPDATE feed f
+           SET f.like_count = (SELECT COUNT(*) FROM feed_like fl WHERE fl.feed_id = f.feed_id)
+         WHERE f.feed_id IN (:feedIds)
+    """, nativeQuery = true)
+    int syncLikeCounts(@Param("feedIds") Collection<Long> feedIds);
+
+    boolean existsByFeedIdAndClub_ClubId(Long feedId, Long clubId);
+
+    // 조회 통계 반영: 조회/노출수는 증가분, 고유 조회자는 HyperLogLog 추정치와 기존 값 중 큰 값
+    // (HyperLogLog 키가 TTL 로 만료된 뒤 다시 생기면 추정치가 작아지므로 줄어들지 않게)
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        UPDATE Feed f
+           SET f.viewCount         = f.viewCount + :views,
+               f.impressionCount   = f.impressionCount + :impressions,
+               f.uniqueViewerCount = greatest(f.uniqueViewerCount, :uniqueViewers)
+         WHERE f.feedId = :feedId
+    """)
+    int addViewStats(@Param("feedId") Long feedId,
+                     @Param("views") long views,
+                     @Param("impressions") long impressions,
+                     @Param("uniqueViewers") long uniqueViewers);
+
+    @Query("SELECT DISTINCT f.club.clubId FROM Feed f WHERE f.feedId IN :feedIds")
+    List<Long> findClubIdsByFeedIds(@Param("feedIds") Collection<Long> feedIds);
+
+    // 점수 갱신용: 현재 카운터 값을 DB 에서 직접 조회
+    @Query("""
+        SELECT f.feedId       AS feedId,
+               f.club.clubId  AS clubId,
+               f.parentFeedId AS parentFeedId,
+               f.createdAt    AS createdAt,
+               f.likeCount    AS likeCount,
+               f.commentCount AS commentCount,
+               f.repostCount  AS repostCount,
+               f.uniqueViewerCount AS uniqueViewerCount
+          FROM Feed f
+         WHERE f.feedId = :feedId
+    """)
+    Optional<FeedScoreSource> findScoreSourceById(@Param("feedId") Long feedId);
+
+    // 카운터/점수 보정 배치용
+    @Modifying
+    @Query("""
+        UPDATE Feed f
+           SET f.likeCount       = :likeCount,
+               f.commentCount    = :commentCount,
+               f.repostCount     = :repostCount,
+               f.popularityScore = :score
+         WHERE f.feedId = :feedId
+    """)
+    int repairCountersAndScore(@Param("feedId") Long feedId,
+                               @Param("likeCount") int likeCount,
+                               @Param("commentCount") int commentCount,
+                               @Param("repostCount") long repostCount,
+                               @Param("score") double score);
+
+    // 카운터/인기 점수 재계산 배치용: 실제 행 기준 집계를 feed_id 순 청크 단위로 조회
     @Query(value = """
-    SELECT f.*
-    FROM feed f
-    LEFT JOIN (
-      SELECT fl.feed_id, COUNT(*) AS cnt
-      FROM feed_like fl
-      GROUP BY fl.feed_id
-    ) l ON l.feed_id = f.feed_id
-    LEFT JOIN (
-      SELECT fc.feed_id, COUNT(*) AS cnt
-      FROM feed_comment fc
-      GROUP BY fc.feed_id
-    ) c ON c.feed_id = f.feed_id
-    WHERE f.club_id IN (:clubIds)
-    ORDER BY (
-      LOG(GREATEST(
-          COALESCE(l.cnt, 0)                 
-        + COALESCE(c.cnt, 0) * 2             
-        + CASE WHEN f.parent_feed_id IS NOT NULL THEN 2 ELSE 0 END  
-      , 1))
-      - (TIMESTAMPDIFF(HOUR, f.created_at, NOW()) / 12.0)             
-    ) DESC,
-    f.created_at DESC
-    LIMIT :#{#pageable.offset}, :#{#pageable.pageSize}
+        SELECT f.feed_id        AS feedId,
+               f.club_id        AS clubId,
+               f.parent_feed_id AS parentFeedId,
+               f.created_at     AS createdAt,
+               (SELECT COUNT(*) FROM feed_like fl WHERE fl.feed_id = f.feed_id) AS likeCount,
+               (SELECT COUNT(*) FROM feed_comment fc WHERE fc.feed_id = f.feed_id) AS commentCount,
+               (SELECT COUNT(*) FROM feed_lineage l WHERE l.ancestor_id = f.feed_id AND l.depth = 1) AS repostCount,
+               f.unique_viewer_count AS uniqueViewerCount
+          FROM feed f
+         WHERE f.feed_id > :lastFeedId
+           AND f.deleted = false
+         ORDER BY f.feed_id
+         LIMIT :limit
     """, nativeQuery = true)
-    List<Feed> findPopularByClubIds(@Param("clubIds") List<Long> clubIds, Pageable pageable);
+    List<FeedScoreSource> findScoreSourcesAfter(@Param("lastFeedId") Long lastFeedId, @Param("limit") int limit);
+
+    interface FeedScoreSource {
+        Long getFeedId();
+        Long getClubId();
+        Long getParentFeedId();
+        LocalDateTime getCreatedAt();
+        Long getLikeCount();
+        Long getCommentCount();
+        Long getRepostCount();
+        Long getUniqueViewerCount();
+    }
 
-        // 나(= parentId)를 인용하던 '직계 자식'들의 parent/root를 모두 NULL
+        // 삭제되는 피드의 직계 자식들(feed_lineage 로 찾은 id) parent/root 를 NULL
         @Modifying(clearAutomatically = true, flushAutomatically = true)
         @Query("""
         UPDATE Feed f
            SET f.parentFeedId = NULL,
                f.rootFeedId   = NULL
-         WHERE f.parentFeedId = :parentId
-           AND f.deleted = FALSE
+         WHERE f.feedId IN :feedIds
     """)
-        int clearParentAndRootForChildren(@Param("parentId") Long parentId);
+        int clearParentAndRootByIds(@Param("feedIds") Collection<Long> feedIds);
 
-        // 나(= rootId)를 루트로 바라보던 모든 후손들의 root를 NULL
+        // 삭제되는 피드를 root 로 보던 후손들(feed_lineage 로 찾은 id)의 root 를 NULL
         @Modifying(clearAutomatically = true, flushAutomatically = true)
         @Query("""
         UPDATE Feed f
            SET f.rootFeedId = NULL
-         WHERE f.rootFeedId = :rootId
-           AND f.deleted = FALSE
+         WHERE f.feedId IN :feedIds
+           AND f.rootFeedId = :rootId
     """)
-        int clearRootForDescendants(@Param("rootId") Long rootId);
+        int clearRootByIds(@Param("feedIds") Collection<Long> feedIds, @Param("rootId") Long rootId);
 
         // 소프트 삭제 (엔티티 @SQLDelete 호출 대신 직접 UPDATE)
         @Modifying(clearAutomatically = true, flushAutomatically = true)
@@ -99,4 +277,19 @@ public interface FeedRepository extends JpaRepository<Feed,Long> {
            AND f.deleted = FALSE
     """)
         int softDeleteById(@Param("feedId") Long feedId);
+
+    // 보관 기간이 지난 소프트 삭제 피드 (@SQLRestriction 을 우회해야 하므로 native)
+    @Query(value = """
+        SELECT f.feed_id
+          FROM feed f
+         WHERE f.deleted = true
+           AND f.deleted_at < :deletedBefore
+         ORDER BY f.feed_id
+         LIMIT :limit
+    """, nativeQuery = true)
+    List<Long> findPurgeCandidateIds(@Param("deletedBefore") LocalDateTime deletedBefore, @Param("limit") int limit);
+
+    @Modifying
+    @Query(value = "DELETE FROM feed WHERE feed_id IN (:feedIds) AND deleted = true", nativeQuery = true)
+    int hardDeleteDeletedByIds(@Param("feedIds") Collection<Long> feedIds);
 }
\ No newline at end of file
@@ -0,0 +1,198 @@
+package com.example.onlyone.domain.feed.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 피드 카드 스냅샷 캐시 (인스턴스 로컬, 크기 제한 LRU + TTL)
+ * - 여러 유저의 목록에 반복 등장하는 원본/부모 피드를 매번 다시 조회하지 않도록 카드 단위로 보관
+ * - 수정/삭제/카운터 변경 시 무효화, 다른 인스턴스에는 Redis 채널(feed-card:evict)로 커밋 후 전파
+ *   (전파가 실패해도 TTL 안에는 반영)
+ * - 적중률은 feed.card.cache{result=hit|miss}, 크기는 feed.card.cache.size 로 노출
+ */
+@Log4j2
+@Component
+public class FeedCardCache implements MessageListener {
+    static final String EVICT_CHANNEL = "feed-card:evict";
+    // 전체 비우기 메시지 (그 외 메시지는 쉼표로 구분한 feed id 목록)
+    private static final String CLEAR_ALL = "*";
+    private static final int MAX_SIZE = 10_000;
+    private static final long TTL_MILLIS = 60_000;
+
+    /**
+     * 목록 카드 렌더링에 필요한 피드 스냅샷 (불변)
+     */
+    public record FeedCard(
+            Long feedId,
+            Long clubId,
+            Long parentFeedId,
+            Long rootFeedId,
+            String content,
+            LocalDateTime createdAt,
+            int likeCount,
+            int commentCount,
+            long repostCount,
+            Long userId,
+            String nickname,
+            String profileImage,
+            List<String> imageUrls
+    ) {
+        public FeedCard {
+            imageUrls = imageUrls == null ? List.of() : List.copyOf(imageUrls);
+        }
+    }
+
+    private record Entry(FeedCard card, long expiresAt) {
+    }
+
+    private final Map<Long, Entry> entries = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+            return size() > MAX_SIZE;
+        }
+    };
+    private final Counter hits;
+    private final Counter misses;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    public FeedCardCache(MeterRegistry meterRegistry,
+                         StringRedisTemplate stringRedisTemplate,
+                         RedisMessageListenerContainer redisMessageListenerContainer) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.redisMessageListenerContainer = redisMessageListenerContainer;
+        this.hits = Counter.builder("feed.card.cache").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("feed.card.cache").tag("result", "miss").register(meterRegistry);
+        Gauge.builder("feed.card.cache.size", this, FeedCardCache::size).register(meterRegistry);
+    }
+
+    @PostConstruct
+    void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(EVICT_CHANNEL));
+    }
+
+    /**
+     * 캐시에 있는 카드는 그대로, 없는 카드만 loader 로 한 번에 조회해서 채움
+     */
+    public Map<Long, FeedCard> getAll(Collection<Long> feedIds,
+                                      Function<Collection<Long>, Map<Long, FeedCard>> loader) {
+        if (feedIds.isEmpty()) return Collections.emptyMap();
+
+        Map<Long, FeedCard> result = new HashMap<>();
+        Set<Long> missing = new HashSet<>();
+        long now = System.currentTimeMillis();
+        synchronized (entries) {
+            for (Long feedId : feedIds) {
+                Entry entry = entries.get(feedId);
+                if (entry != null && entry.expiresAt() > now) {
+                    result.put(feedId, entry.card());
+                } else {
+                    if (entry != null) entries.remove(feedId);
+                    missing.add(feedId);
+                }
+            }
+        }
+        hits.increment(result.size());
+        misses.increment(missing.size());
+        if (missing.isEmpty()) return result;
+
+        Map<Long, FeedCard> loaded = loader.apply(missing);
+        long expiresAt = System.currentTimeMillis() + TTL_MILLIS;
+        synchronized (entries) {
+            loaded.forEach((feedId, card) -> entries.put(feedId, new Entry(card, expiresAt)));
+        }
+        result.putAll(loaded);
+        return result;
+    }
+
+    /**
+     * 즉시 제거 + 트랜잭션 안이면 커밋 후 한 번 더 제거 (커밋 전 다른 요청이 옛 값을 다시 채운 경우 대비)
+     * 다른 인스턴스에는 커밋 후(트랜잭션 밖이면 바로) 전파
+     */
+    public void evict(Collection<Long> feedIds) {
+        if (feedIds.isEmpty()) return;
+        List<Long> ids = List.copyOf(feedIds);
+        String message = ids.stream().map(String::valueOf).collect(Collectors.joining(","));
+        remove(ids);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    remove(ids);
+                    broadcast(message);
+                }
+            });
+        } else {
+            broadcast(message);
+        }
+    }
+
+    public void evict(Long feedId) {
+        evict(List.of(feedId));
+    }
+
+    public void clear() {
+        clearLocal();
+        broadcast(CLEAR_ALL);
+    }
+
+    /**
+     * 다른 인스턴스(자기 자신 포함)의 무효화 메시지 반영
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        if (CLEAR_ALL.equals(body)) {
+            clearLocal();
+            return;
+        }
+        try {
+            remove(Arrays.stream(body.split(",")).map(Long::valueOf).toList());
+        } catch (NumberFormatException e) {
+            log.warn("Invalid feed card eviction message: body={}", body);
+        }
+    }
+
+    private void broadcast(String message) {
+        try {
+            stringRedisTemplate.convertAndSend(EVICT_CHANNEL, message);
+        } catch (Exception e) {
+            log.warn("Feed card eviction broadcast failed, other instances refresh on TTL: error={}", e.getMessage());
+        }
+    }
+
+    private void clearLocal() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    private void remove(Collection<Long> feedIds) {
+        synchronized (entries) {
+            feedIds.forEach(entries::remove);
+        }
+    }
+
+    private int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.onlyone.domain.feed.service;
+
+import com.example.onlyone.domain.feed.dto.request.FeedCommentCursor;
+import com.example.onlyone.domain.feed.dto.response.FeedCommentListResponseDto;
+import com.example.onlyone.domain.feed.dto.response.FeedCommentResponseDto;
+import com.example.onlyone.domain.feed.repository.FeedCommentRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * 댓글 목록 조회 (피드 상세의 첫 페이지 + 댓글 목록 API 공용)
+ * - 작성자 조인 프로젝션으로 한 페이지를 쿼리 1회에 조회
+ * - size + 1 개를 읽어 다음 페이지 여부/커서 결정
+ */
+@Service
+@RequiredArgsConstructor
+public class FeedCommentService {
+    private final FeedCommentRepository feedCommentRepository;
+
+    public FeedCommentListResponseDto getPage(Long feedId, FeedCommentCursor after, int size, Long currentUserId) {
+        PageRequest limit = PageRequest.of(0, size + 1);
+        List<FeedCommentRepository.FeedCommentRow> rows = (after == null)
+                ? feedCommentRepository.findCommentRows(feedId, limit)
+                : feedCommentRepository.findCommentRowsAfterCursor(feedId, after.getCreatedAt(), after.getCommentId(), limit);
+
+        boolean hasMore = rows.size() > size;
+        List<FeedCommentRepository.FeedCommentRow> pageRows = hasMore ? rows.subList(0, size) : rows;
+        FeedCommentRepository.FeedCommentRow last = pageRows.isEmpty() ? null : pageRows.get(pageRows.size() - 1);
+
+        return FeedCommentListResponseDto.builder()
+                .comments(pageRows.stream()
+                        .map(row -> FeedCommentResponseDto.from(row, currentUserId))
+                        .toList())
+                .nextCursor(hasMore ? FeedCommentCursor.of(last.getCreatedAt(), last.getCommentId()).encode() : null)
+                .hasMore(hasMore)
+                .build();
+    }
+}
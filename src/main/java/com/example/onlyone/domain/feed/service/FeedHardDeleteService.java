@@ -0,0 +1,33 @@
+package com.example.onlyone.domain.feed.service;
+
+import com.example.onlyone.domain.feed.repository.*;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 소프트 삭제된 피드 한 묶음을 한 트랜잭션으로 영구 삭제
+ * 자식 행(좋아요/댓글/이미지/계보)을 먼저 지운 뒤 feed 행을 삭제한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class FeedHardDeleteService {
+    private final FeedRepository feedRepository;
+    private final FeedLikeRepository feedLikeRepository;
+    private final FeedCommentRepository feedCommentRepository;
+    private final FeedImageRepository feedImageRepository;
+    private final FeedLineageRepository feedLineageRepository;
+
+    @Transactional
+    public int hardDelete(List<Long> feedIds) {
+        if (feedIds.isEmpty()) return 0;
+
+        feedLikeRepository.deleteAllByFeedIds(feedIds);
+        feedCommentRepository.deleteAllByFeedIds(feedIds);
+        feedImageRepository.deleteAllByFeedIds(feedIds);
+        feedLineageRepository.deleteAllByFeedIds(feedIds);
+        return feedRepository.hardDeleteDeletedByIds(feedIds);
+    }
+}
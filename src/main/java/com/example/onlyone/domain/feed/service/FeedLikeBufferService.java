@@ -0,0 +1,228 @@
+package com.example.onlyone.domain.feed.service;
+
+import com.example.onlyone.domain.feed.dto.response.FeedLikeResponseDto;
+import com.example.onlyone.domain.feed.repository.FeedLikeRepository;
+import com.example.onlyone.domain.feed.repository.FeedRepository;
+import com.example.onlyone.global.exception.CustomException;
+import com.example.onlyone.global.exception.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * 피드 좋아요 write-behind 버퍼
+ * - feed-likes:{feedId} set 에 좋아요한 userId 를 보관하고 토글은 Lua 스크립트로 즉시/원자적으로 처리
+ * - 변경분은 feed-likes:dirty hash("feedId:userId" -> 1|0, 마지막 상태만 유지)에 모아 주기적으로 feed_like 에 반영
+ * - flush 는 dirty -> processing 으로 옮긴 뒤 DB 반영이 끝나야 processing 을 지우므로,
+ *   중간에 죽어도 다음 주기에 processing 부터 다시 반영된다 (INSERT IGNORE / DELETE 라 재처리해도 결과 동일)
+ * - 좋아요 여부 조회도 set 을 우선 사용해 flush 전 내 좋아요가 바로 보이도록 함 (set 이 없는 피드만 DB 조회)
+ */
+@Log4j2
+@Service
+@RequiredArgsConstructor
+public class FeedLikeBufferService {
+    private static final String LIKES_KEY_PREFIX = "feed-likes:";
+    private static final String DIRTY_KEY = "feed-likes:dirty";
+    private static final String PROCESSING_KEY = "feed-likes:processing";
+    private static final String FLUSH_LOCK_KEY = "feed-likes:flush-lock";
+    // set 이 어느 모임의 피드인지 확인하기 위한 표시용 멤버 (userId 와 겹치지 않음)
+    private static final String CLUB_MARKER_PREFIX = "club:";
+    private static final Duration LIKES_TTL = Duration.ofDays(1);
+    private static final Duration FLUSH_LOCK_TTL = Duration.ofSeconds(30);
+    private static final int FLUSH_CHUNK_SIZE = 500;
+
+    private static final long NOT_LOADED = -1;
+    private static final long CLUB_MISMATCH = -2;
+
+    private static final RedisScript<List> TOGGLE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then return {-1, 0} end
+            if redis.call('SISMEMBER', KEYS[1], ARGV[1]) == 0 then return {-2, 0} end
+            local liked = 1
+            if redis.call('SISMEMBER', KEYS[1], ARGV[2]) == 1 then
+              redis.call('SREM', KEYS[1], ARGV[2])
+              liked = 0
+            else
+              redis.call('SADD', KEYS[1], ARGV[2])
+            end
+            redis.call('HSET', KEYS[2], ARGV[3], liked)
+            redis.call('EXPIRE', KEYS[1], ARGV[4])
+            return {liked, redis.call('SCARD', KEYS[1]) - 1}
+            """, List.class);
+
+    private static final RedisScript<Long> LOAD_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 1 then return 0 end
+            for i = 2, #ARGV, 1000 do
+              redis.call('SADD', KEYS[1], unpack(ARGV, i, math.min(i + 999, #ARGV)))
+            end
+            redis.call('EXPIRE', KEYS[1], ARGV[1])
+            return 1
+            """, Long.class);
+
+    // 이전 flush 가 끝나지 못한 processing 이 있으면 그것부터, 없으면 dirty 를 processing 으로 옮겨서 반환
+    private static final RedisScript<List> CLAIM_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[2]) == 0 then
+              if redis.call('EXISTS', KEYS[1]) == 0 then return {} end
+              redis.call('RENAME', KEYS[1], KEYS[2])
+            end
+            return redis.call('HGETALL', KEYS[2])
+            """, List.class);
+
+    private static final RedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final FeedRepository feedRepository;
+    private final FeedLikeRepository feedLikeRepository;
+    private final FeedLikeFlushService feedLikeFlushService;
+    private final FeedVersionService feedVersionService;
+
+    public record FeedLikeChange(Long feedId, Long userId, boolean liked) {
+    }
+
+    /**
+     * 좋아요 토글 - DB 를 기다리지 않고 새 상태와 좋아요 수를 반환
+     * (해당 피드의 set 이 아직 없을 때만 DB 에서 한 번 적재)
+     */
+    @SuppressWarnings("unchecked")
+    public FeedLikeResponseDto toggle(Long clubId, Long feedId, Long userId) {
+        List<String> keys = List.of(likesKey(feedId), DIRTY_KEY);
+        String[] args = {
+                CLUB_MARKER_PREFIX + clubId,
+                userId.toString(),
+                feedId + ":" + userId,
+                String.valueOf(LIKES_TTL.toSeconds())
+        };
+
+        List<Long> result = stringRedisTemplate.execute(TOGGLE_SCRIPT, keys, (Object[]) args);
+        if (result.get(0) == NOT_LOADED) {
+            load(clubId, feedId);
+            result = stringRedisTemplate.execute(TOGGLE_SCRIPT, keys, (Object[]) args);
+        }
+        if (result.get(0) == NOT_LOADED || result.get(0) == CLUB_MISMATCH) {
+            throw new CustomException(ErrorCode.FEED_NOT_FOUND);
+        }
+        // 상세 ETag 가 flush 전에도 바뀌도록 (isLiked 가 304 로 묻히지 않게)
+        feedVersionService.touchFeed(feedId, clubId);
+        return FeedLikeResponseDto.builder()
+                .isLiked(result.get(0) == 1)
+                .likeCount(result.get(1))
+                .build();
+    }
+
+    /**
+     * feedIds 중 userId 가 좋아요한 피드 id
+     * set 이 적재된 피드는 set 기준(아직 flush 되지 않은 토글 포함), 적재되지 않은 피드만 DB 에서 한 번에 조회
+     */
+    public Set<Long> findLikedFeedIds(Long userId, Collection<Long> feedIds) {
+        if (feedIds.isEmpty()) return Collections.emptySet();
+
+        List<Long> ids = new ArrayList<>(feedIds);
+        List<Long> unloaded = new ArrayList<>();
+        Set<Long> liked = new HashSet<>();
+        try {
+            String member = userId.toString();
+            List<Object> results = stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                    RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                    for (Long feedId : ids) {
+                        ops.hasKey(likesKey(feedId));
+                        ops.opsForSet().isMember(likesKey(feedId), member);
+                    }
+                    return null;
+                }
+            });
+            for (int i = 0; i < ids.size(); i++) {
+                if (!Boolean.TRUE.equals(results.get(i * 2))) {
+                    unloaded.add(ids.get(i));
+                } else if (Boolean.TRUE.equals(results.get(i * 2 + 1))) {
+                    liked.add(ids.get(i));
+                }
+            }
+        } catch (Exception e) {
+            log.warn("Feed like buffer read failed, falling back to DB: userId={}, error={}", userId, e.getMessage());
+            liked.clear();
+            unloaded = ids;
+        }
+
+        if (!unloaded.isEmpty()) {
+            liked.addAll(feedLikeRepository.findLikedFeedIds(userId, unloaded));
+        }
+        return liked;
+    }
+
+    public boolean isLiked(Long feedId, Long userId) {
+        return findLikedFeedIds(userId, List.of(feedId)).contains(feedId);
+    }
+
+    public void evict(Long feedId) {
+        stringRedisTemplate.delete(likesKey(feedId));
+    }
+
+    /**
+     * 버퍼에 쌓인 좋아요 변경분을 feed_like 에 반영
+     */
+    @Scheduled(fixedDelay = 2000)
+    public void flush() {
+        String token = UUID.randomUUID().toString();
+        if (!Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(FLUSH_LOCK_KEY, token, FLUSH_LOCK_TTL))) {
+            return;
+        }
+        try {
+            List<FeedLikeChange> changes = claim();
+            for (int from = 0; from < changes.size(); from += FLUSH_CHUNK_SIZE) {
+                feedLikeFlushService.persist(changes.subList(from, Math.min(from + FLUSH_CHUNK_SIZE, changes.size())));
+            }
+            if (!changes.isEmpty()) {
+                stringRedisTemplate.delete(PROCESSING_KEY);
+                log.debug("피드 좋아요 반영 완료: {}건", changes.size());
+            }
+        } catch (Exception e) {
+            log.error("Feed like flush failed, will retry: error={}", e.getMessage());
+        } finally {
+            stringRedisTemplate.execute(UNLOCK_SCRIPT, List.of(FLUSH_LOCK_KEY), token);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<FeedLikeChange> claim() {
+        List<String> flat = stringRedisTemplate.execute(CLAIM_SCRIPT, List.of(DIRTY_KEY, PROCESSING_KEY));
+        if (flat == null || flat.isEmpty()) return Collections.emptyList();
+
+        List<FeedLikeChange> changes = new ArrayList<>(flat.size() / 2);
+        for (int i = 0; i + 1 < flat.size(); i += 2) {
+            String[] ids = flat.get(i).split(":");
+            changes.add(new FeedLikeChange(Long.valueOf(ids[0]), Long.valueOf(ids[1]), "1".equals(flat.get(i + 1))));
+        }
+        return changes;
+    }
+
+    private void load(Long clubId, Long feedId) {
+        if (!feedRepository.existsByFeedIdAndClub_ClubId(feedId, clubId)) {
+            throw new CustomException(ErrorCode.FEED_NOT_FOUND);
+        }
+        List<Long> userIds = feedLikeRepository.findUserIdsByFeedId(feedId);
+        List<String> args = new ArrayList<>(userIds.size() + 2);
+        args.add(String.valueOf(LIKES_TTL.toSeconds()));
+        args.add(CLUB_MARKER_PREFIX + clubId);
+        userIds.forEach(id -> args.add(id.toString()));
+        stringRedisTemplate.execute(LOAD_SCRIPT, List.of(likesKey(feedId)), args.toArray());
+    }
+
+    private String likesKey(Long feedId) {
+        return LIKES_KEY_PREFIX + feedId;
+    }
+}
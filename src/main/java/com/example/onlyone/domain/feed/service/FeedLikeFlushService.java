@@ -0,0 +1,76 @@
+package com.example.onlyone.domain.feed.service;
+
+import com.example.onlyone.domain.feed.entity.Feed;
+import com.example.onlyone.domain.feed.repository.FeedLikeRepository;
+import com.example.onlyone.domain.feed.repository.FeedRepository;
+import com.example.onlyone.domain.feed.service.FeedLikeBufferService.FeedLikeChange;
+import com.example.onlyone.domain.notification.entity.Type;
+import com.example.onlyone.domain.notification.event.ActivityNotificationEvent;
+import com.example.onlyone.domain.user.entity.User;
+import com.example.onlyone.domain.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 좋아요 버퍼 변경분을 한 트랜잭션으로 feed_like 에 반영
+ * 같은 변경분을 여러 번 반영해도 결과가 같아야 한다 (flush 재시도)
+ */
+@Service
+@RequiredArgsConstructor
+public class FeedLikeFlushService {
+    private final FeedLikeRepository feedLikeRepository;
+    private final FeedRepository feedRepository;
+    private final UserRepository userRepository;
+    private final FeedPopularityService feedPopularityService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional
+    public void persist(List<FeedLikeChange> changes) {
+        Set<Long> feedIds = new HashSet<>();
+        List<FeedLikeChange> newLikes = new ArrayList<>();
+        for (FeedLikeChange change : changes) {
+            feedIds.add(change.feedId());
+            if (change.liked()) {
+                if (feedLikeRepository.insertIgnore(change.feedId(), change.userId()) > 0) {
+                    newLikes.add(change);
+                }
+            } else {
+                feedLikeRepository.deleteByFeedIdAndUserId(change.feedId(), change.userId());
+            }
+        }
+        if (feedIds.isEmpty()) return;
+
+        feedRepository.syncLikeCounts(feedIds);
+        feedIds.forEach(feedPopularityService::refresh);
+        notifyNewLikes(newLikes);
+    }
+
+    // 실제로 새로 추가된 좋아요만 작성자 알림 묶음에 전달 (본인 글 제외)
+    private void notifyNewLikes(List<FeedLikeChange> newLikes) {
+        if (newLikes.isEmpty()) return;
+
+        Map<Long, Feed> feeds = feedRepository.findAllById(
+                        newLikes.stream().map(FeedLikeChange::feedId).collect(Collectors.toSet())).stream()
+                .collect(Collectors.toMap(Feed::getFeedId, Function.identity()));
+        Map<Long, User> likers = userRepository.findAllById(
+                        newLikes.stream().map(FeedLikeChange::userId).collect(Collectors.toSet())).stream()
+                .collect(Collectors.toMap(User::getUserId, Function.identity()));
+
+        for (FeedLikeChange like : newLikes) {
+            Feed feed = feeds.get(like.feedId());
+            User liker = likers.get(like.userId());
+            if (feed == null || liker == null) continue;
+            Long authorId = feed.getUser().getUserId();
+            if (authorId.equals(liker.getUserId())) continue;
+
+            eventPublisher.publishEvent(new ActivityNotificationEvent(
+                    authorId, Type.LIKE, feed.getFeedId(), liker.getUserId(), liker.getNickname()));
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.onlyone.domain.feed.service;
+
+import com.example.onlyone.domain.feed.entity.Feed;
+import com.example.onlyone.domain.feed.repository.FeedLineageRepository;
+import com.example.onlyone.domain.feed.repository.FeedRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 리피드 계보 인덱스 (feed_lineage closure table)
+ * - 전체 전파 규모 / 피드 삭제 시 후손/조상 목록을 feed 테이블 스캔 없이 조회
+ * - 직접 리피드 수는 feed.repost_count 에 유지하고, 재계산 배치가 depth 1 경로 수로 보정
+ * - 리피드 생성 시 경로 추가, 피드 삭제 시 해당 서브트리만 떼어냄 (호출한 트랜잭션에 참여)
+ */
+@Log4j2
+@Service
+@RequiredArgsConstructor
+public class FeedLineageService {
+    private final FeedLineageRepository feedLineageRepository;
+    private final FeedRepository feedRepository;
+
+    /* 저장된 리피드의 계보 경로 추가 */
+    public void record(Feed reFeed) {
+        if (reFeed.getParentFeedId() == null) return;
+        feedLineageRepository.insertPaths(reFeed.getFeedId(), reFeed.getParentFeedId());
+    }
+
+    /* 리피드의 리피드까지 포함한 전체 전파 규모 */
+    public long countCascade(Long feedId) {
+        return feedLineageRepository.countByAncestorId(feedId);
+    }
+
+    /**
+     * 삭제되는 피드 기준으로 서브트리 분리
+     * 1) 직계 자식들의 parent/root 를 NULL (자식이 새 원본이 됨)
+     * 2) 나를 root 로 보던 후손들의 root 를 NULL
+     * 3) (나 + 내 조상) -> (나 + 내 후손) 경로 제거
+     * @return parent/root 가 바뀌었을 수 있는 후손 피드 id
+     */
+    public List<Long> detach(Long feedId) {
+        List<Long> descendantIds = feedLineageRepository.findDescendantIds(feedId);
+        List<Long> ancestorIds = feedLineageRepository.findAncestorIds(feedId);
+
+        if (!descendantIds.isEmpty()) {
+            List<Long> childIds = feedLineageRepository.findChildIds(feedId);
+            feedRepository.clearParentAndRootByIds(childIds);
+            feedRepository.clearRootByIds(descendantIds, feedId);
+        }
+
+        List<Long> upper = new ArrayList<>(ancestorIds);
+        upper.add(feedId);
+        List<Long> lower = new ArrayList<>(descendantIds);
+        lower.add(feedId);
+        feedLineageRepository.deletePaths(upper, lower);
+        return descendantIds;
+    }
+
+    /* parent_feed_id 기준으로 누락된 계보 경로 보정 (기존 데이터 적재 포함) */
+    @Scheduled(cron = "0 0 4 * * *")
+    @Transactional
+    public void repairAll() {
+        int inserted = feedLineageRepository.insertMissingPaths();
+        log.info("피드 계보 보정 완료: {}건 추가", inserted);
+    }
+}
@@ -1,19 +1,22 @@
 package com.example.onlyone.domain.feed.service;
 
 import com.example.onlyone.domain.club.entity.Club;
-import com.example.onlyone.domain.club.entity.UserClub;
 import com.example.onlyone.domain.club.repository.ClubRepository;
 import com.example.onlyone.domain.club.repository.UserClubRepository;
+import com.example.onlyone.domain.club.service.ClubGraphService;
+import com.example.onlyone.domain.feed.dto.request.FeedCommentCursor;
+import com.example.onlyone.domain.feed.dto.request.FeedCursor;
 import com.example.onlyone.domain.feed.dto.request.FeedRequestDto;
 import com.example.onlyone.domain.feed.dto.request.RefeedRequestDto;
-import com.example.onlyone.domain.feed.dto.response.FeedCommentResponseDto;
+import com.example.onlyone.domain.feed.dto.response.FeedCommentListResponseDto;
+import com.example.onlyone.domain.feed.dto.response.FeedListResponseDto;
 import com.example.onlyone.domain.feed.dto.response.FeedOverviewDto;
 import com.example.onlyone.domain.feed.entity.Feed;
-import com.example.onlyone.domain.feed.entity.FeedImage;
-import com.example.onlyone.domain.feed.entity.FeedLike;
 import com.example.onlyone.domain.feed.entity.FeedType;
-import com.example.onlyone.domain.feed.repository.FeedCommentRepository;
+import com.example.onlyone.domain.feed.event.FeedCreatedEvent;
+import com.example.onlyone.domain.feed.repository.FeedImageRepository;
 import com.example.onlyone.domain.feed.repository.FeedRepository;
+import com.example.onlyone.domain.feed.service.FeedCardCache.FeedCard;
 import com.example.onlyone.domain.notification.entity.Type;
 import com.example.onlyone.domain.notification.service.NotificationService;
 import com.example.onlyone.domain.user.entity.User;
@@ -22,8 +25,9 @@ import com.example.onlyone.global.exception.CustomException;
 import com.example.onlyone.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
-import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -42,203 +46,200 @@ public class FeedMainService {
     private final FeedRepository feedRepository;
     private final UserService userService;
     private final UserClubRepository userClubRepository;
-    private final FeedCommentRepository feedCommentRepository;
+    private final FeedLikeBufferService feedLikeBufferService;
+    private final FeedImageRepository feedImageRepository;
     private final ClubRepository clubRepository;
     private final NotificationService notificationService;
+    private final FeedTimelineService feedTimelineService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final FeedPopularityService feedPopularityService;
+    private final ClubGraphService clubGraphService;
+    private final FeedLineageService feedLineageService;
+    private final FeedCardCache feedCardCache;
+    private final FeedCommentService feedCommentService;
+    private final FeedViewService feedViewService;
 
     @Transactional(readOnly = true)
-    public List<FeedOverviewDto> getPersonalFeed(Pageable pageable) {
-        return getFeedsCommon(pageable, false);
-    }
+    public FeedListResponseDto getPersonalFeed(String cursor, int size) {
+        Long userId = userService.getCurrentUser().getUserId();
 
-    @Transactional(readOnly = true)
-    public List<FeedOverviewDto> getPopularFeed(Pageable pageable) {
-        return getFeedsCommon(pageable, true);
+        List<FeedCursor> entries = loadTimelineEntries(userId, FeedCursor.decode(cursor), size + 1);
+        return toFeedList(entries, size, userId);
     }
 
-    private List<FeedOverviewDto> getFeedsCommon(Pageable pageable, boolean popular) {
+    @Transactional(readOnly = true)
+    public FeedListResponseDto getPopularFeed(String cursor, int size) {
         Long userId = userService.getCurrentUser().getUserId();
 
         List<Long> clubIds = resolveAccessibleClubIds(userId);
-        if (clubIds.isEmpty()) return Collections.emptyList();
-
-        List<Feed> feeds = popular
-                ? feedRepository.findPopularByClubIds(clubIds, pageable)
-                : feedRepository.findByClubIds(clubIds, pageable);
-        if (feeds.isEmpty()) return Collections.emptyList();
+        if (clubIds.isEmpty()) return toFeedList(Collections.emptyList(), size, userId);
 
-        Map<Long, Long> repostCntMap = countDirectReposts(feeds);
+        FeedCursor after = FeedCursor.decode(cursor);
+        PageRequest limit = PageRequest.of(0, size + 1);
+        List<FeedRepository.PopularEntry> rows = (after == null)
+                ? feedRepository.findPopularEntriesByClubIds(clubIds, limit)
+                : feedRepository.findPopularEntriesBeforeCursor(clubIds, after.getSortKey(), after.getFeedId(), limit);
 
-        Map<Long, Feed> parentMap = bulkLoadParents(feeds);
-        Map<Long, Feed> rootMap   = bulkLoadRoots(feeds);
-
-        Set<Long> likedFeedIds = Collections.emptySet();
-
-        return feeds.stream()
-                .map(f -> toOverviewDto(
-                        f,
-                        userId,
-                        likedFeedIds,
-                        parentMap,
-                        rootMap,
-                        repostCntMap))
+        List<FeedCursor> entries = rows.stream()
+                .map(e -> new FeedCursor(e.getPopularityScore(), e.getFeedId()))
                 .toList();
+        return toFeedList(entries, size, userId);
     }
 
-    private List<Long> resolveAccessibleClubIds(Long userId) {
-        List<UserClub> myJoinClubs = userClubRepository.findByUserUserId(userId);
-        List<Long> myClubIds = myJoinClubs.stream()
-                .map(uc -> uc.getClub().getClubId())
-                .toList();
-
-        if (myClubIds.isEmpty()) return Collections.emptyList();
+    // 타임라인 저장소에서 커서 이후 항목을 읽고, 없으면 재구성 / 보관 범위를 넘어서면 DB 에서 이어서 조회
+    private List<FeedCursor> loadTimelineEntries(Long userId, FeedCursor after, int limit) {
+        Optional<List<FeedCursor>> page = feedTimelineService.findPage(userId, after, limit);
+        if (page.isEmpty()) {
+            feedTimelineService.rebuild(userId, resolveAccessibleClubIds(userId));
+            page = feedTimelineService.findPage(userId, after, limit);
+        }
 
-        List<Long> memberIds = userClubRepository.findUserIdByClubIds(myClubIds);
-        List<UserClub> friendMemberJoinClubs = userClubRepository.findByUserUserIdIn(memberIds);
-        List<Long> friendClubIds = friendMemberJoinClubs.stream()
-                .map(uc -> uc.getClub().getClubId())
-                .filter(id -> !myClubIds.contains(id))
-                .toList();
+        List<FeedCursor> entries = new ArrayList<>(page.orElse(Collections.emptyList()));
+        if (entries.size() >= limit || !feedTimelineService.isTruncated(userId)) {
+            return entries;
+        }
 
-        List<Long> allClubIds = new ArrayList<>(myClubIds);
-        allClubIds.addAll(friendClubIds);
-        return allClubIds;
+        List<Long> clubIds = resolveAccessibleClubIds(userId);
+        if (clubIds.isEmpty()) return entries;
+
+        FeedCursor from = entries.isEmpty() ? after : entries.get(entries.size() - 1);
+        PageRequest remaining = PageRequest.of(0, limit - entries.size());
+        List<FeedRepository.TimelineEntry> rows = (from == null)
+                ? feedRepository.findTimelineEntriesByClubIds(clubIds, remaining)
+                : feedRepository.findTimelineEntriesBeforeCursor(clubIds, from.getCreatedAt(), from.getFeedId(), remaining);
+        rows.forEach(e -> entries.add(FeedCursor.ofCreatedAt(e.getCreatedAt(), e.getFeedId())));
+        return entries;
     }
 
-    private Map<Long, Long> countDirectReposts(List<Feed> feeds) {
-        Set<Long> targetIds = new HashSet<>();
-        for (Feed f : feeds) {
-            targetIds.add(f.getFeedId());
-            if (f.getRootFeedId() != null) {
-                targetIds.add(f.getRootFeedId());
-            }
-        }
-        if (targetIds.isEmpty()) return Collections.emptyMap();
-        return feedRepository.countDirectRepostsIn(new ArrayList<>(targetIds)).stream()
-                .collect(Collectors.toMap(
-                        FeedRepository.ParentRepostCount::getParentId,
-                        FeedRepository.ParentRepostCount::getCnt));
+    // size + 1 개까지 읽은 정렬 키 목록으로 다음 페이지 여부/커서를 정하고 해당 피드만 조회
+    private FeedListResponseDto toFeedList(List<FeedCursor> entries, int size, Long userId) {
+        boolean hasMore = entries.size() > size;
+        List<FeedCursor> pageEntries = hasMore ? entries.subList(0, size) : entries;
+
+        List<Long> feedIds = pageEntries.stream().map(FeedCursor::getFeedId).toList();
+        feedViewService.recordImpressions(feedIds, userId);
+        return FeedListResponseDto.builder()
+                .feeds(toOverviewDtos(feedIds, userId))
+                .nextCursor(hasMore ? pageEntries.get(pageEntries.size() - 1).encode() : null)
+                .hasMore(hasMore)
+                .build();
     }
 
-    private Map<Long, Feed> bulkLoadParents(List<Feed> feeds) {
-        Set<Long> parentIds = feeds.stream()
-                .map(Feed::getParentFeedId )
+    // 카드 스냅샷으로 조립: 캐시에 없는 카드만 (카드 + 이미지) 조회, 좋아요 여부는 유저별이라 매번 좋아요 버퍼에서
+    private List<FeedOverviewDto> toOverviewDtos(List<Long> feedIds, Long userId) {
+        if (feedIds.isEmpty()) return Collections.emptyList();
+
+        Map<Long, FeedCard> cards = feedCardCache.getAll(feedIds, this::loadCards);
+        Set<Long> referencedIds = new HashSet<>();
+        cards.values().forEach(c -> {
+            if (c.parentFeedId() != null) referencedIds.add(c.parentFeedId());
+            if (c.rootFeedId() != null) referencedIds.add(c.rootFeedId());
+        });
+        referencedIds.removeAll(cards.keySet());
+        Map<Long, FeedCard> allCards = new HashMap<>(cards);
+        allCards.putAll(feedCardCache.getAll(referencedIds, this::loadCards));
+
+        Set<Long> likedFeedIds = allCards.isEmpty()
+                ? Collections.emptySet()
+                : feedLikeBufferService.findLikedFeedIds(userId, allCards.keySet());
+
+        return feedIds.stream()
+                .map(cards::get)
                 .filter(Objects::nonNull)
-                .collect(Collectors.toSet());
-        if (parentIds.isEmpty()) return Collections.emptyMap();
-
-        return feedRepository.findAllById(parentIds).stream()
-                .collect(Collectors.toMap(Feed::getFeedId, Function.identity()));
+                .map(c -> toOverviewDto(c, userId, likedFeedIds, allCards))
+                .toList();
     }
 
-    private Map<Long, Feed> bulkLoadRoots(List<Feed> feeds) {
-        Set<Long> rootIds = feeds.stream()
-                .map(Feed::getRootFeedId)
-                .filter(Objects::nonNull)
-                .collect(Collectors.toSet());
-        if (rootIds.isEmpty()) return Collections.emptyMap();
+    private Map<Long, FeedCard> loadCards(Collection<Long> feedIds) {
+        List<FeedRepository.FeedCardRow> rows = feedRepository.findCardRowsByIds(feedIds);
+        if (rows.isEmpty()) return Collections.emptyMap();
+
+        Map<Long, List<String>> imageUrls = feedImageRepository.findImageRowsByFeedIds(
+                        rows.stream().map(FeedRepository.FeedCardRow::getFeedId).toList()).stream()
+                .collect(Collectors.groupingBy(
+                        FeedImageRepository.FeedImageRow::getFeedId,
+                        Collectors.mapping(FeedImageRepository.FeedImageRow::getImageUrl, Collectors.toList())));
+
+        return rows.stream().collect(Collectors.toMap(
+                FeedRepository.FeedCardRow::getFeedId,
+                r -> new FeedCard(
+                        r.getFeedId(),
+                        r.getClubId(),
+                        r.getParentFeedId(),
+                        r.getRootFeedId(),
+                        r.getContent(),
+                        r.getCreatedAt(),
+                        r.getLikeCount(),
+                        r.getCommentCount(),
+                        r.getRepostCount(),
+                        r.getUserId(),
+                        r.getNickname(),
+                        r.getProfileImage(),
+                        imageUrls.get(r.getFeedId()))));
+    }
 
-        return feedRepository.findAllById(rootIds).stream()
-                .collect(Collectors.toMap(Feed::getFeedId, Function.identity()));
+    private List<Long> resolveAccessibleClubIds(Long userId) {
+        return clubGraphService.getReachableClubIds(userId);
     }
 
-    private FeedOverviewDto toShallowDto(Feed f, Long currentUserId, Set<Long> likedFeedIds, Long repostCount) {
-        return FeedOverviewDto.builder()
-                .clubId(f.getClub() != null ? f.getClub().getClubId() : null)
-                .feedId(f.getFeedId())
-                .imageUrls(resolveImages(f))
-                .likeCount(safeSize(f.getFeedLikes()))
-                .commentCount(safeSize(f.getFeedComments()))
-                .profileImage(f.getUser() != null ? f.getUser().getProfileImage() : null)
-                .nickname(f.getUser() != null ? f.getUser().getNickname() : null)
-                .content(f.getContent())
-                .isLiked(isLiked(f, currentUserId, likedFeedIds))
-                .isFeedMine(f.getUser() != null && Objects.equals(f.getUser().getUserId(), currentUserId))
-                .created(f.getCreatedAt())
-                .repostCount(repostCount)
+    private FeedOverviewDto toShallowDto(FeedCard c, Long currentUserId, Set<Long> likedFeedIds) {
+        return cardBuilder(c, currentUserId, likedFeedIds)
                 .parentFeed(null)
                 .rootFeed(null)
                 .build();
     }
 
     private FeedOverviewDto toOverviewDto(
-            Feed f,
+            FeedCard c,
             Long currentUserId,
             Set<Long> likedFeedIds,
-            Map<Long, Feed> parentMap,
-            Map<Long, Feed> rootMap,
-            Map<Long, Long> repostCntMap
+            Map<Long, FeedCard> cardMap
     ) {
-        long selfRepostCount = repostCntMap.getOrDefault(f.getFeedId(), 0L);
-
-        FeedOverviewDto.FeedOverviewDtoBuilder b = FeedOverviewDto.builder()
-                .clubId(f.getClub() != null ? f.getClub().getClubId() : null)
-                .feedId(f.getFeedId())
-                .imageUrls(resolveImages(f))
-                .likeCount(safeSize(f.getFeedLikes()))
-                .commentCount(safeSize(f.getFeedComments()))
-                .profileImage(f.getUser() != null ? f.getUser().getProfileImage() : null)
-                .nickname(f.getUser() != null ? f.getUser().getNickname() : null)
-                .content(f.getContent())
-                .isLiked(isLiked(f, currentUserId, likedFeedIds))
-                .isFeedMine(f.getUser() != null && Objects.equals(f.getUser().getUserId(), currentUserId))
-                .created(f.getCreatedAt())
-                .repostCount(selfRepostCount);
-
-        Long parentId = f.getParentFeedId();
+        FeedOverviewDto.FeedOverviewDtoBuilder b = cardBuilder(c, currentUserId, likedFeedIds);
+
+        Long parentId = c.parentFeedId();
         if (parentId != null) {
-            Feed p = parentMap.get(parentId);
+            FeedCard p = cardMap.get(parentId);
             if (p != null) {
-                long parentRepostCount = repostCntMap.getOrDefault(parentId, 0L);
-                b.parentFeed(toShallowDto(p, currentUserId, likedFeedIds, parentRepostCount));
+                b.parentFeed(toShallowDto(p, currentUserId, likedFeedIds));
             }
         }
 
-        Long rootId = f.getRootFeedId();
+        Long rootId = c.rootFeedId();
         if (rootId != null) {
-            Feed r = rootMap.get(rootId);
+            FeedCard r = cardMap.get(rootId);
             if (r != null) {
-                long rootRepostCount = repostCntMap.getOrDefault(rootId, 0L);
-                b.rootFeed(toShallowDto(r, currentUserId, likedFeedIds, rootRepostCount));
+                b.rootFeed(toShallowDto(r, currentUserId, likedFeedIds));
             }
         }
 
         return b.build();
     }
 
-    private List<String> resolveImages(Feed f) {
-        List<FeedImage> imgs = f.getFeedImages();
-        if (imgs == null || imgs.isEmpty()) return Collections.emptyList();
-        return imgs.stream()
-                .map(FeedImage::getFeedImage)
-                .filter(Objects::nonNull)
-                .toList();
-    }
-
-    private int safeSize(Collection<?> c) {
-        return c == null ? 0 : c.size();
-    }
-
-    private boolean isLiked(Feed f, Long userId, Set<Long> likedFeedIds) {
-        if (likedFeedIds != null && !likedFeedIds.isEmpty()) {
-            return likedFeedIds.contains(f.getFeedId());
-        }
-
-        List<FeedLike> likes = f.getFeedLikes();
-        if (likes == null) return false;
-        return likes.stream().anyMatch(l -> l.getUser() != null && Objects.equals(l.getUser().getUserId(), userId));
+    private FeedOverviewDto.FeedOverviewDtoBuilder cardBuilder(FeedCard c, Long currentUserId, Set<Long> likedFeedIds) {
+        return FeedOverviewDto.builder()
+                .clubId(c.clubId())
+                .feedId(c.feedId())
+                .imageUrls(c.imageUrls())
+                .likeCount(c.likeCount())
+                .commentCount(c.commentCount())
+                .profileImage(c.profileImage())
+                .nickname(c.nickname())
+                .content(c.content())
+                .isLiked(likedFeedIds.contains(c.feedId()))
+                .isFeedMine(Objects.equals(c.userId(), currentUserId))
+                .created(c.createdAt())
+                .repostCount(c.repostCount());
     }
 
     @Transactional(readOnly = true)
-    public List<FeedCommentResponseDto> getCommentList(Long feedId, Pageable pageable) {
-        Feed feed = feedRepository.findById(feedId)
-                        .orElseThrow(() -> new CustomException(ErrorCode.FEED_NOT_FOUND));
+    public FeedCommentListResponseDto getCommentList(Long feedId, String cursor, int size) {
+        if (!feedRepository.existsById(feedId)) {
+            throw new CustomException(ErrorCode.FEED_NOT_FOUND);
+        }
         Long userId = userService.getCurrentUser().getUserId();
 
-        return  feedCommentRepository.findByFeedOrderByCreatedAt(feed,pageable)
-                .stream()
-                .map(c -> FeedCommentResponseDto.from(c,userId))
-                .toList();
+        return feedCommentService.getPage(feedId, FeedCommentCursor.decode(cursor), size, userId);
     }
 
     @Transactional
@@ -272,9 +273,15 @@ public class FeedMainService {
                 .user(user)
                 .build();
 
+        feedPopularityService.initialize(reFeed);
+
         try {
             feedRepository.save(reFeed);
-            
+            feedLineageService.record(reFeed);
+            feedRepository.adjustRepostCount(parentFeedId, 1);
+            feedPopularityService.refresh(parentFeedId);
+            eventPublisher.publishEvent(new FeedCreatedEvent(reFeed.getFeedId(), club.getClubId(), reFeed.getCreatedAt(), user.getUserId()));
+
             // 원본 피드 작성자에게 리피드 알림 발송 (자신이 리피드한 경우 제외)
             User originalAuthor = parent.getUser();
             if (!originalAuthor.getUserId().equals(user.getUserId())) {
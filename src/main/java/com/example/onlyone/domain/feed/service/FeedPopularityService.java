@@ -0,0 +1,91 @@
+package com.example.onlyone.domain.feed.service;
+
+import com.example.onlyone.domain.feed.entity.Feed;
+import com.example.onlyone.domain.feed.repository.FeedRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 피드 인기 점수 관리
+ * - 좋아요/댓글/리피드 이벤트마다 해당 피드 점수만 갱신 (Feed 카운터 컬럼 기준)
+ * - 카운터 누락이나 점수식(FeedScoreFunction) 변경 보정을 위해 전체 재계산 배치 제공
+ */
+@Log4j2
+@Service
+@RequiredArgsConstructor
+public class FeedPopularityService {
+    private static final int REBUILD_CHUNK_SIZE = 500;
+
+    private final FeedRepository feedRepository;
+    private final FeedScoreFunction feedScoreFunction;
+    private final FeedCardCache feedCardCache;
+    private final FeedVersionService feedVersionService;
+
+    /* 저장 전 신규 피드의 초기 점수 설정 */
+    public void initialize(Feed feed) {
+        feed.updatePopularityScore(feedScoreFunction.score(
+                0, 0, 0, 0, feed.getParentFeedId() != null, LocalDateTime.now()));
+    }
+
+    /* 좋아요/댓글/리피드 카운터 변경 후 점수 갱신 (호출한 트랜잭션에 참여), 카운터가 바뀐 카드 캐시 무효화/변경 스탬프 갱신 */
+    @Transactional
+    public void refresh(Long feedId) {
+        feedRepository.findScoreSourceById(feedId).ifPresent(source -> {
+            feedRepository.updatePopularityScore(feedId, score(source));
+            feedVersionService.touchFeed(feedId, source.getClubId());
+        });
+        feedCardCache.evict(feedId);
+    }
+
+    /* 조회 통계처럼 목록/상세 응답에 드러나지 않는 지표 변경: 점수만 갱신 */
+    @Transactional
+    public void rescore(Long feedId) {
+        feedRepository.findScoreSourceById(feedId)
+                .ifPresent(source -> feedRepository.updatePopularityScore(feedId, score(source)));
+    }
+
+    /* 카운터 컬럼과 인기 점수를 실제 좋아요/댓글/리피드 행 기준으로 전체 재계산 */
+    @Scheduled(cron = "0 30 4 * * *")
+    @Transactional
+    public void rebuildAll() {
+        long lastFeedId = 0L;
+        int updated = 0;
+        while (true) {
+            List<FeedRepository.FeedScoreSource> chunk =
+                    feedRepository.findScoreSourcesAfter(lastFeedId, REBUILD_CHUNK_SIZE);
+            if (chunk.isEmpty()) break;
+
+            for (FeedRepository.FeedScoreSource source : chunk) {
+                feedRepository.repairCountersAndScore(
+                        source.getFeedId(),
+                        source.getLikeCount().intValue(),
+                        source.getCommentCount().intValue(),
+                        source.getRepostCount(),
+                        score(source));
+            }
+            feedVersionService.touch(
+                    chunk.stream().map(FeedRepository.FeedScoreSource::getFeedId).toList(),
+                    chunk.stream().map(FeedRepository.FeedScoreSource::getClubId).distinct().toList());
+            updated += chunk.size();
+            lastFeedId = chunk.get(chunk.size() - 1).getFeedId();
+        }
+        feedCardCache.clear();
+        log.info("피드 카운터/인기 점수 재계산 완료: {}건", updated);
+    }
+
+    private double score(FeedRepository.FeedScoreSource source) {
+        return feedScoreFunction.score(
+                source.getLikeCount(),
+                source.getCommentCount(),
+                source.getRepostCount(),
+                source.getUniqueViewerCount(),
+                source.getParentFeedId() != null,
+                source.getCreatedAt());
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.onlyone.domain.feed.service;
+
+import com.example.onlyone.domain.feed.repository.FeedRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 소프트 삭제 피드 정리 배치
+ * - 삭제 후 보관 기간이 지난 피드를 feed_id 순으로 작은 묶음씩 좋아요/댓글/이미지와 함께 영구 삭제
+ * - 주기(batch-interval-millis)마다 한 묶음만 짧은 트랜잭션으로 처리해 feed 에 긴 락을 잡지 않고,
+ *   묶음 사이 간격도 스케줄러 주기로 두어 스케줄러 스레드를 잠재우지 않는다
+ * - 남은 대상이 없으면(묶음이 덜 찼으면) idle-interval-millis 동안 조회도 쉬었다가 다시 확인
+ * - 여러 인스턴스가 같은 묶음을 동시에 처리하지 않도록 Redis 락 사용
+ */
+@Log4j2
+@Service
+@RequiredArgsConstructor
+public class FeedPurgeService {
+    private static final String PURGE_LOCK_KEY = "feed-purge:lock";
+    private static final Duration PURGE_LOCK_TTL = Duration.ofMinutes(1);
+
+    private static final RedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final FeedRepository feedRepository;
+    private final FeedHardDeleteService feedHardDeleteService;
+
+    @Value("${feed.purge.retention-days:30}")
+    private int retentionDays;
+
+    @Value("${feed.purge.batch-size:200}")
+    private int batchSize;
+
+    @Value("${feed.purge.idle-interval-millis:600000}")
+    private long idleIntervalMillis;
+
+    // 이 시각 전에는 남은 대상이 없다고 보고 조회하지 않음 (인스턴스별)
+    private volatile long idleUntil;
+
+    @Scheduled(fixedDelayString = "${feed.purge.batch-interval-millis:1000}")
+    public void purge() {
+        if (System.currentTimeMillis() < idleUntil) {
+            return;
+        }
+        String token = UUID.randomUUID().toString();
+        if (!Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(PURGE_LOCK_KEY, token, PURGE_LOCK_TTL))) {
+            return;
+        }
+        try {
+            LocalDateTime deletedBefore = LocalDateTime.now().minusDays(retentionDays);
+            List<Long> feedIds = feedRepository.findPurgeCandidateIds(deletedBefore, batchSize);
+            if (feedIds.size() < batchSize) {
+                idleUntil = System.currentTimeMillis() + idleIntervalMillis;
+            }
+            if (feedIds.isEmpty()) return;
+
+            int purged = feedHardDeleteService.hardDelete(feedIds);
+            log.debug("삭제 피드 정리 완료: {}건", purged);
+        } catch (Exception e) {
+            log.error("Feed purge failed: error={}", e.getMessage());
+        } finally {
+            stringRedisTemplate.execute(UNLOCK_SCRIPT, List.of(PURGE_LOCK_KEY), token);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.onlyone.domain.feed.service;
+
+import java.time.LocalDateTime;
+
+/**
+ * 피드 인기 점수 계산 함수
+ * 점수는 피드에 저장되어 /feeds/popular 정렬 인덱스로 쓰이므로,
+ * 시간 감쇠는 "현재 시각" 이 아닌 작성 시각 기준으로 표현해야 한다.
+ * (모든 피드에 같은 now 를 빼는 것은 순위를 바꾸지 않음)
+ */
+public interface FeedScoreFunction {
+
+    double score(long likeCount, long commentCount, long repostCount, long uniqueViewerCount,
+                 boolean refeed, LocalDateTime createdAt);
+}
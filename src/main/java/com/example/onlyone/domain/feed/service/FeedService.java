@@ -7,31 +7,36 @@ import com.example.onlyone.domain.club.repository.ClubRepository;
 import com.example.onlyone.domain.club.repository.UserClubRepository;
 import com.example.onlyone.domain.feed.dto.request.FeedCommentRequestDto;
 import com.example.onlyone.domain.feed.dto.request.FeedRequestDto;
-import com.example.onlyone.domain.feed.dto.response.FeedCommentResponseDto;
+import com.example.onlyone.domain.feed.dto.response.FeedCommentListResponseDto;
 import com.example.onlyone.domain.feed.dto.response.FeedDetailResponseDto;
+import com.example.onlyone.domain.feed.dto.response.FeedLikeResponseDto;
 import com.example.onlyone.domain.feed.dto.response.FeedOverviewDto;
 import com.example.onlyone.domain.feed.dto.response.FeedSummaryResponseDto;
 import com.example.onlyone.domain.feed.entity.*;
+import com.example.onlyone.domain.feed.event.FeedCreatedEvent;
 import com.example.onlyone.domain.feed.repository.FeedCommentRepository;
-import com.example.onlyone.domain.feed.repository.FeedLikeRepository;
+import com.example.onlyone.domain.feed.repository.FeedImageJdbcRepository;
 import com.example.onlyone.domain.feed.repository.FeedRepository;
 import com.example.onlyone.domain.notification.entity.Type;
+import com.example.onlyone.domain.notification.event.ActivityNotificationEvent;
 import com.example.onlyone.domain.notification.repository.NotificationRepository;
-import com.example.onlyone.domain.notification.service.NotificationService;
 import com.example.onlyone.domain.user.entity.User;
 import com.example.onlyone.domain.user.service.UserService;
 import com.example.onlyone.global.exception.CustomException;
 import com.example.onlyone.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
-import org.springframework.data.domain.Page;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
-import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Log4j2
@@ -39,13 +44,23 @@ import java.util.stream.Collectors;
 @Transactional
 @RequiredArgsConstructor
 public class FeedService {
+    // 피드 상세에 함께 내려주는 첫 페이지 댓글 수
+    private static final int DETAIL_COMMENT_SIZE = 20;
+
     private final ClubRepository clubRepository;
     private final FeedRepository feedRepository;
     private final UserService userService;
-    private final FeedLikeRepository feedLikeRepository;
     private final FeedCommentRepository feedCommentRepository;
     private final UserClubRepository userClubRepository;
-    private final NotificationService notificationService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final FeedPopularityService feedPopularityService;
+    private final FeedLikeBufferService feedLikeBufferService;
+    private final FeedLineageService feedLineageService;
+    private final FeedCardCache feedCardCache;
+    private final FeedCommentService feedCommentService;
+    private final FeedVersionService feedVersionService;
+    private final FeedViewService feedViewService;
+    private final FeedImageJdbcRepository feedImageJdbcRepository;
 
 
     public void createFeed(Long clubId, FeedRequestDto requestDto) {
@@ -56,13 +71,12 @@ public class FeedService {
                 .orElseThrow(() -> new CustomException(ErrorCode.CLUB_NOT_JOIN));
         Feed feed = requestDto.toEntity(club, user);
 
-        requestDto.getFeedUrls().stream()
-                .map(url -> FeedImage.builder()
-                        .feedImage(url)
-                        .feed(feed)
-                        .build())
-                .forEach(feed.getFeedImages()::add);
+        feedPopularityService.initialize(feed);
         feedRepository.save(feed);
+        // 이미지는 cascade 로 한 건씩 INSERT 하지 않고 JDBC batch 로 한 번에
+        feedImageJdbcRepository.insertAll(feed.getFeedId(), requestDto.getFeedUrls());
+        feedVersionService.touchFeed(feed.getFeedId(), clubId);
+        eventPublisher.publishEvent(new FeedCreatedEvent(feed.getFeedId(), club.getClubId(), feed.getCreatedAt(), user.getUserId()));
     }
 
     public void updateFeed(Long clubId, Long feedId, FeedRequestDto requestDto) {
@@ -76,6 +90,8 @@ public class FeedService {
         }
         updateFeedImage(feed, requestDto);
         feed.update(requestDto.getContent());
+        feedCardCache.evict(feedId);
+        feedVersionService.touchFeed(feedId, clubId);
     }
 
     private void updateFeedImage(Feed feed, FeedRequestDto requestDto) {
@@ -89,27 +105,18 @@ public class FeedService {
     }
 
     @Transactional(readOnly = true)
-    public Page<FeedSummaryResponseDto> getFeedList(Long clubId, Pageable pageable) {
-        Club club = clubRepository.findById(clubId)
-                .orElseThrow(() -> new CustomException(ErrorCode.CLUB_NOT_FOUND));
-
-        Page<Feed> feeds = feedRepository.findByClubAndParentFeedIdIsNull(club, pageable);
-
-        return feeds.map(feed -> {
-                    String thumbnailUrl = null;
-                    List<FeedImage> imgs = feed.getFeedImages();
-                    if (imgs != null && !imgs.isEmpty()) {           // ★ 빈 리스트 가드
-                        thumbnailUrl = imgs.get(0).getFeedImage();
-                    }
-
-                    return new FeedSummaryResponseDto(
-                            feed.getFeedId(),
-                            thumbnailUrl,
-                            feed.getFeedLikes().size(),
-                            feed.getFeedComments().size()
-                    );
-                });
+    public Slice<FeedSummaryResponseDto> getFeedList(Long clubId, Pageable pageable) {
+        if (!clubRepository.existsById(clubId)) {
+            throw new CustomException(ErrorCode.CLUB_NOT_FOUND);
+        }
 
+        return feedRepository.findGridRowsByClubId(clubId, pageable)
+                .map(row -> new FeedSummaryResponseDto(
+                        row.getFeedId(),
+                        row.getThumbnailUrl(),
+                        row.getLikeCount(),
+                        row.getCommentCount()
+                ));
     }
 
     @Transactional(readOnly = true)
@@ -124,45 +131,23 @@ public class FeedService {
                 .map(FeedImage::getFeedImage)
                 .collect(Collectors.toList());
 
-        boolean isLiked = feed.getFeedLikes().stream()
-                .anyMatch(like -> like.getUser().getUserId().equals(currentUserId));
+        boolean isLiked = feedLikeBufferService.isLiked(feedId, currentUserId);
 
         boolean isMine = feed.getUser().getUserId().equals(currentUserId);
 
-        List<FeedCommentResponseDto> commentResponseDtos = feed.getFeedComments().stream()
-                .map(comment -> FeedCommentResponseDto.from(comment, currentUserId))
-                .collect(Collectors.toList());
-        long repostCount = feedRepository.countByParentFeedId(feedId);
+        long cascadeCount = feedLineageService.countCascade(feedId);
+
+        FeedCommentListResponseDto comments =
+                feedCommentService.getPage(feedId, null, DETAIL_COMMENT_SIZE, currentUserId);
+        feedViewService.recordView(feedId, currentUserId);
 
-        return FeedDetailResponseDto.from(feed, imageUrls, isLiked, isMine, commentResponseDtos, repostCount);
+        return FeedDetailResponseDto.from(feed, imageUrls, isLiked, isMine, cascadeCount, comments);
     }
 
-    public boolean toggleLike(Long clubId, Long feedId) {
-        Club club = clubRepository.findById(clubId)
-                .orElseThrow(() -> new CustomException(ErrorCode.CLUB_NOT_FOUND));
-        Feed feed = feedRepository.findByFeedIdAndClub(feedId, club)
-                .orElseThrow(() -> new CustomException(ErrorCode.FEED_NOT_FOUND));
+    // 좋아요 상태는 FeedLikeBufferService 에서 즉시 처리, feed_like 반영/알림은 주기적 flush 에서 수행
+    public FeedLikeResponseDto toggleLike(Long clubId, Long feedId) {
         User currentUser = userService.getCurrentUser();
-
-        Optional<FeedLike> checkLike = feedLikeRepository.findByFeedAndUser(feed, currentUser);
-
-        if(checkLike.isPresent()) {
-            feedLikeRepository.delete(checkLike.get());
-            return false;
-        } else {
-            FeedLike feedLike = FeedLike.builder()
-                    .feed(feed)
-                    .user(currentUser)
-                    .build();
-            feedLikeRepository.save(feedLike);
-            int likeCount = feedLikeRepository.countByFeed(feed);
-            if(likeCount > 0) likeCount--;
-            // 본인 글에 대한 알림 방지
-            if (!feed.getUser().getUserId().equals(currentUser.getUserId())) {
-                    notificationService.createNotification(feed.getUser(), Type.LIKE, new String[]{ currentUser.getNickname(), String.valueOf(likeCount) });
-            }
-            return true;
-        }
+        return feedLikeBufferService.toggle(clubId, feedId, currentUser.getUserId());
     }
 
     public void createComment(Long clubId, Long feedId, FeedCommentRequestDto requestDto) {
@@ -174,8 +159,11 @@ public class FeedService {
 
         FeedComment feedComment = requestDto.toEntity(feed, currentUser);
         feedCommentRepository.save(feedComment);
+        feedRepository.adjustCommentCount(feedId, 1);
+        feedPopularityService.refresh(feedId);
         if (!feed.getUser().getUserId().equals(currentUser.getUserId())) {
-            notificationService.createNotification(feed.getUser(), Type.COMMENT, new String[]{currentUser.getNickname()});
+            eventPublisher.publishEvent(new ActivityNotificationEvent(
+                    feed.getUser().getUserId(), Type.COMMENT, feedId, currentUser.getUserId(), currentUser.getNickname()));
         }
     }
 
@@ -198,6 +186,8 @@ public class FeedService {
         }
 
         feedCommentRepository.delete(feedComment);
+        feedRepository.adjustCommentCount(feedId, -1);
+        feedPopularityService.refresh(feedId);
     }
 
     public void deleteFeed(Long clubId, Long feedId) {
@@ -209,7 +199,16 @@ public class FeedService {
         if (!(user.getUserId().equals(feed.getUser().getUserId()))) {
             throw new CustomException(ErrorCode.UNAUTHORIZED_FEED_ACCESS);
         }
+        List<Long> detachedIds = feedLineageService.detach(feedId);
         feedRepository.delete(feed);
+        feedLikeBufferService.evict(feedId);
+        feedCardCache.evict(feedId);
+        feedCardCache.evict(detachedIds);
+        touchDetached(feedId, clubId, detachedIds);
+        if (feed.getParentFeedId() != null) {
+            feedRepository.adjustRepostCount(feed.getParentFeedId(), -1);
+            feedPopularityService.refresh(feed.getParentFeedId());
+        }
     }
 
     public void softDeleteFeed(Long clubId, Long feedId) {
@@ -224,16 +223,34 @@ public class FeedService {
             throw new CustomException(ErrorCode.UNAUTHORIZED_FEED_ACCESS);
         }
 
-        // 1) 중간 노드 삭제 대비: 나를 parent로 참조하던 '직계 자식'들의 parent/root를 NULL
-        feedRepository.clearParentAndRootForChildren(target.getFeedId());
+        // 0) 리피드였다면 부모의 리피드 수 감소
+        if (target.getParentFeedId() != null) {
+            feedRepository.adjustRepostCount(target.getParentFeedId(), -1);
+            feedPopularityService.refresh(target.getParentFeedId());
+        }
 
-        // 2) 루트 노드 삭제 대비: 나를 root로 참조하던 모든 후손들의 root를 NULL
-        feedRepository.clearRootForDescendants(target.getFeedId());
+        // 1) 계보 인덱스로 내 서브트리만 분리 (직계 자식 parent/root, 후손 root 정리)
+        List<Long> detachedIds = feedLineageService.detach(target.getFeedId());
+        feedCardCache.evict(detachedIds);
 
-        // 3) 내 행 소프트 삭제
+        // 2) 내 행 소프트 삭제
         int affected = feedRepository.softDeleteById(target.getFeedId());
+        feedLikeBufferService.evict(target.getFeedId());
+        feedCardCache.evict(target.getFeedId());
         if (affected == 0) {
             throw new CustomException(ErrorCode.FEED_NOT_FOUND); // 동시성 등으로 이미 삭제된 경우
         }
+        touchDetached(target.getFeedId(), clubId, detachedIds);
+    }
+
+    // 삭제된 피드 + 계보에서 분리된 후손(원본이 되어 다른 모임 목록에 나타날 수 있음)의 스탬프 갱신
+    private void touchDetached(Long feedId, Long clubId, List<Long> detachedIds) {
+        List<Long> feedIds = new ArrayList<>(detachedIds);
+        feedIds.add(feedId);
+        Set<Long> clubIds = new HashSet<>(detachedIds.isEmpty()
+                ? List.of()
+                : feedRepository.findClubIdsByFeedIds(detachedIds));
+        clubIds.add(clubId);
+        feedVersionService.touch(feedIds, clubIds);
     }
 }
@@ -0,0 +1,195 @@
+package com.example.onlyone.domain.feed.service;
+
+import com.example.onlyone.domain.club.event.ClubMembershipChangedEvent;
+import com.example.onlyone.domain.club.service.ClubGraphService;
+import com.example.onlyone.domain.feed.dto.request.FeedCursor;
+import com.example.onlyone.domain.feed.event.FeedCreatedEvent;
+import com.example.onlyone.domain.feed.repository.FeedRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * 유저별 홈 타임라인 (fan-out-on-write)
+ * - timeline:v2:{userId} sorted set 에 피드 id 를 작성 시각(epoch micros) 점수로 보관
+ * - 같은 점수의 멤버는 사전순으로 정렬되므로, 커서의 (작성 시각, feed_id) 숫자 비교와 순서가 같도록
+ *   피드 id 를 19자리로 0 을 채워 저장 ("10" < "9" 가 되지 않게)
+ * - 피드 생성 커밋 후 해당 모임을 볼 수 있는 유저들의 타임라인에 추가
+ * - 타임라인이 없으면(신규/만료/무효화) 조회 시점에 DB 에서 재구성
+ */
+@Log4j2
+@Service
+@RequiredArgsConstructor
+public class FeedTimelineService {
+    static final int TIMELINE_CAPACITY = 800;
+    // v2: 0 채움 멤버 형식 (이전 형식 키는 TTL 로 만료)
+    private static final String TIMELINE_KEY_PREFIX = "timeline:v2:";
+    private static final String MEMBER_FORMAT = "%019d";
+    // 볼 수 있는 피드가 하나도 없는 유저도 "재구성 완료" 상태를 유지하기 위한 표시용 멤버 (점수 0)
+    private static final String EMPTY_MARKER = "0";
+    private static final double MIN_FEED_SCORE = 1;
+    private static final Duration TIMELINE_TTL = Duration.ofDays(7);
+    private static final int FAN_OUT_BATCH_SIZE = 500;
+
+    // 이미 존재하는(= 재구성된) 타임라인에만 추가하고, 용량을 넘는 오래된 항목은 잘라낸다
+    // Redis Cluster 에서 키마다 슬롯이 다를 수 있으므로 스크립트 한 번에 키 하나만 다룬다
+    private static final RedisScript<Long> APPEND_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 1 then
+              redis.call('ZADD', KEYS[1], ARGV[2], ARGV[1])
+              redis.call('ZREMRANGEBYRANK', KEYS[1], 0, -(tonumber(ARGV[3]) + 1))
+            end
+            return 0
+            """, Long.class);
+    // 타임라인을 한 번에 교체 (지운 뒤 채우기 전 사이에 fan-out 이 키 없음으로 건너뛰거나 조회가 재구성을 중복 시작하지 않게)
+    // ARGV: TTL(초), 점수1, 멤버1, 점수2, 멤버2 ...
+    private static final RedisScript<Long> REBUILD_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('DEL', KEYS[1])
+            redis.call('ZADD', KEYS[1], unpack(ARGV, 2))
+            redis.call('EXPIRE', KEYS[1], ARGV[1])
+            return 0
+            """, Long.class);
+    private static final byte[] APPEND_SCRIPT_BODY = APPEND_SCRIPT.getScriptAsString().getBytes(StandardCharsets.UTF_8);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final FeedRepository feedRepository;
+    private final ClubGraphService clubGraphService;
+
+    /**
+     * 커서 이후 타임라인 항목 조회 (작성 시각, feed_id 내림차순)
+     * 타임라인이 아직 만들어지지 않았다면 Optional.empty()
+     */
+    public Optional<List<FeedCursor>> findPage(Long userId, FeedCursor cursor, int limit) {
+        String key = timelineKey(userId);
+        ZSetOperations<String, String> zSet = stringRedisTemplate.opsForZSet();
+
+        double max = cursor != null ? cursor.getSortKey() : Double.POSITIVE_INFINITY;
+        // 커서와 같은 작성 시각을 가진 항목은 feed_id 로 걸러내야 하므로 그만큼 더 읽는다
+        long ties = 0;
+        if (cursor != null) {
+            Long count = zSet.count(key, max, max);
+            ties = count != null ? count : 0;
+        }
+        Set<ZSetOperations.TypedTuple<String>> tuples =
+                zSet.reverseRangeByScoreWithScores(key, MIN_FEED_SCORE, max, 0, limit + ties);
+
+        if (tuples == null || tuples.isEmpty()) {
+            return Boolean.TRUE.equals(stringRedisTemplate.hasKey(key))
+                    ? Optional.of(Collections.emptyList())
+                    : Optional.empty();
+        }
+
+        List<FeedCursor> entries = new ArrayList<>(limit);
+        for (ZSetOperations.TypedTuple<String> tuple : tuples) {
+            if (entries.size() == limit) break;
+            if (tuple.getValue() == null || tuple.getScore() == null) continue;
+            FeedCursor entry = new FeedCursor(tuple.getScore(), Long.valueOf(tuple.getValue()));
+            if (cursor != null && entry.getSortKey() == cursor.getSortKey()
+                    && entry.getFeedId() >= cursor.getFeedId()) {
+                continue;
+            }
+            entries.add(entry);
+        }
+        return Optional.of(entries);
+    }
+
+    /**
+     * 보관 용량까지 채워진(= 잘려 나간 오래된 항목이 DB 에 남아 있을 수 있는) 타임라인인지
+     */
+    public boolean isTruncated(Long userId) {
+        Long size = stringRedisTemplate.opsForZSet().zCard(timelineKey(userId));
+        return size != null && size >= TIMELINE_CAPACITY;
+    }
+
+    /**
+     * 접근 가능한 모임들의 최신 피드로 타임라인 재구성
+     */
+    public void rebuild(Long userId, List<Long> clubIds) {
+        List<String> args = new ArrayList<>();
+        args.add(String.valueOf(TIMELINE_TTL.toSeconds()));
+        args.add("0");
+        args.add(EMPTY_MARKER);
+        if (!clubIds.isEmpty()) {
+            feedRepository.findTimelineEntriesByClubIds(clubIds, PageRequest.of(0, TIMELINE_CAPACITY))
+                    .forEach(e -> {
+                        args.add(String.valueOf(FeedCursor.toSortKey(e.getCreatedAt())));
+                        args.add(member(e.getFeedId()));
+                    });
+        }
+        stringRedisTemplate.execute(REBUILD_SCRIPT, List.of(timelineKey(userId)), args.toArray());
+    }
+
+    public void evict(Collection<Long> userIds) {
+        if (userIds.isEmpty()) return;
+        stringRedisTemplate.delete(userIds.stream().map(this::timelineKey).toList());
+    }
+
+    /**
+     * 피드 생성 커밋 후 fan-out
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @Async
+    public void handleFeedCreated(FeedCreatedEvent event) {
+        try {
+            List<Long> viewerIds = clubGraphService.findViewerIds(event.getClubId());
+            byte[] member = bytes(member(event.getFeedId()));
+            byte[] score = bytes(String.valueOf(FeedCursor.toSortKey(event.getCreatedAt())));
+            byte[] capacity = bytes(String.valueOf(TIMELINE_CAPACITY));
+            // 유저별 스크립트 호출을 배치 단위로 파이프라이닝
+            for (int from = 0; from < viewerIds.size(); from += FAN_OUT_BATCH_SIZE) {
+                List<Long> batch = viewerIds.subList(from, Math.min(from + FAN_OUT_BATCH_SIZE, viewerIds.size()));
+                stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                    for (Long userId : batch) {
+                        connection.scriptingCommands().eval(APPEND_SCRIPT_BODY, ReturnType.INTEGER, 1,
+                                bytes(timelineKey(userId)), member, score, capacity);
+                    }
+                    return null;
+                });
+            }
+        } catch (Exception e) {
+            log.error("Timeline fan-out failed: feedId={}, error={}", event.getFeedId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 가입/탈퇴 커밋 후 보이는 모임 집합이 바뀐 유저들의 타임라인 무효화
+     * 가입: 당사자 + 해당 모임 멤버(당사자의 모임이 새로 보임) + 당사자 모임의 멤버(해당 모임이 새로 보임)
+     * 탈퇴: 같은 범위에서 더 이상 보이지 않는 피드가 생길 수 있음
+     * 무효화된 타임라인은 다음 조회 시 DB 기준으로 다시 채워진다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @Async
+    public void handleMembershipChanged(ClubMembershipChangedEvent event) {
+        try {
+            evict(clubGraphService.findAffectedUserIds(event.getUserId(), event.getClubId()));
+        } catch (Exception e) {
+            log.error("Timeline invalidation failed: userId={}, clubId={}, error={}",
+                    event.getUserId(), event.getClubId(), e.getMessage());
+        }
+    }
+
+    private String timelineKey(Long userId) {
+        return TIMELINE_KEY_PREFIX + userId;
+    }
+
+    private static String member(Long feedId) {
+        return String.format(MEMBER_FORMAT, feedId);
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.onlyone.domain.feed.service;
+
+import com.example.onlyone.domain.club.service.ClubGraphService;
+import com.example.onlyone.domain.feed.event.FeedCreatedEvent;
+import com.example.onlyone.domain.notification.service.SseDeliveryService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+/**
+ * "새 피드 있음" SSE push
+ * - 피드 생성 커밋 후 해당 모임의 피드를 볼 수 있는 유저를 한 번만 조회해 인스턴스 간 SSE 채널로 전달
+ * - 각 인스턴스가 자기에게 연결된 유저만 골라 유저별로 묶어 feed_update 이벤트 하나로 보낸다 (SseDeliveryService)
+ * - 클라이언트는 이 이벤트를 받았을 때만 /feeds 를 다시 조회하면 된다
+ */
+@Log4j2
+@Service
+@RequiredArgsConstructor
+public class FeedUpdatePushService {
+
+    private final SseDeliveryService sseDeliveryService;
+    private final ClubGraphService clubGraphService;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @Async
+    public void handleFeedCreated(FeedCreatedEvent event) {
+        try {
+            List<Long> viewerIds = clubGraphService.findViewerIds(event.getClubId()).stream()
+                    .filter(userId -> !userId.equals(event.getAuthorId()))
+                    .toList();
+            if (viewerIds.isEmpty()) return;
+            sseDeliveryService.sendFeedUpdate(viewerIds);
+        } catch (Exception e) {
+            log.error("Feed update push failed: feedId={}, error={}", event.getFeedId(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.onlyone.domain.feed.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 피드/모임 피드 목록 변경 스탬프 (조건부 GET 용 ETag 원천)
+ * - feed-version:{feedId}, club-feed-version:{clubId} 에 마지막 변경 시각(ms, 단조 증가)을 보관
+ * - 쓰기 경로는 커밋 후 스탬프를 올려, 커밋 전 데이터로 새 ETag 가 발급되는 일이 없게 한다
+ * - 키가 만료되면 조회 시점 시각으로 다시 만들어지므로 이전 ETag 와 겹치지 않는다
+ */
+@Log4j2
+@Service
+@RequiredArgsConstructor
+public class FeedVersionService {
+    private static final String FEED_KEY_PREFIX = "feed-version:";
+    private static final String CLUB_KEY_PREFIX = "club-feed-version:";
+    // 작성자 프로필 등 스탬프로 추적하지 않는 변경도 최대 이 시간 안에는 새 ETag 로 반영됨
+    private static final Duration VERSION_TTL = Duration.ofDays(1);
+
+    // 현재 시각과 기존 값 + 1 중 큰 값으로 갱신 (같은 ms 에 여러 번 바뀌어도 스탬프가 달라지도록)
+    private static final RedisScript<Long> TOUCH_SCRIPT = new DefaultRedisScript<>("""
+            local now = tonumber(ARGV[1])
+            for _, key in ipairs(KEYS) do
+              local stamp = now
+              local current = tonumber(redis.call('GET', key) or '0')
+              if current >= stamp then stamp = current + 1 end
+              redis.call('SET', key, stamp, 'EX', ARGV[2])
+            end
+            return 0
+            """, Long.class);
+
+    // 스탬프가 없으면 현재 시각으로 만들고 반환
+    private static final RedisScript<Long> READ_SCRIPT = new DefaultRedisScript<>("""
+            local stamp = redis.call('GET', KEYS[1])
+            if not stamp then
+              stamp = ARGV[1]
+              redis.call('SET', KEYS[1], stamp, 'EX', ARGV[2])
+            end
+            return tonumber(stamp)
+            """, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    /* 피드 상세 ETag: 응답에 좋아요/작성자 여부가 들어가므로 조회자별로 구분 */
+    public String feedDetailETag(Long clubId, Long feedId, String viewer) {
+        return eTag("feed:" + clubId + ":" + feedId + ":" + read(FEED_KEY_PREFIX + feedId) + ":" + viewer);
+    }
+
+    /* 모임 피드 목록 ETag: 조회자와 무관한 응답이라 모임 스탬프 + 페이지 파라미터만 사용 */
+    public String clubFeedsETag(Long clubId, int page, int limit) {
+        return eTag("club:" + clubId + ":" + read(CLUB_KEY_PREFIX + clubId) + ":" + page + ":" + limit);
+    }
+
+    public void touchFeed(Long feedId, Long clubId) {
+        touch(List.of(feedId), List.of(clubId));
+    }
+
+    public void touchClubs(Collection<Long> clubIds) {
+        touch(List.of(), clubIds);
+    }
+
+    /**
+     * 트랜잭션 안이면 커밋 후, 아니면 즉시 스탬프 갱신
+     */
+    public void touch(Collection<Long> feedIds, Collection<Long> clubIds) {
+        List<String> keys = new ArrayList<>(feedIds.size() + clubIds.size());
+        feedIds.forEach(id -> keys.add(FEED_KEY_PREFIX + id));
+        clubIds.forEach(id -> keys.add(CLUB_KEY_PREFIX + id));
+        if (keys.isEmpty()) return;
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    execute(keys);
+                }
+            });
+        } else {
+            execute(keys);
+        }
+    }
+
+    private void execute(List<String> keys) {
+        try {
+            stringRedisTemplate.execute(TOUCH_SCRIPT, keys,
+                    String.valueOf(System.currentTimeMillis()), String.valueOf(VERSION_TTL.toSeconds()));
+        } catch (Exception e) {
+            log.error("Feed version touch failed: keys={}, error={}", keys, e.getMessage());
+        }
+    }
+
+    private long read(String key) {
+        Long stamp = stringRedisTemplate.execute(READ_SCRIPT, List.of(key),
+                String.valueOf(System.currentTimeMillis()), String.valueOf(VERSION_TTL.toSeconds()));
+        return stamp != null ? stamp : System.currentTimeMillis();
+    }
+
+    private String eTag(String raw) {
+        return "\"" + DigestUtils.md5DigestAsHex(raw.getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.onlyone.domain.feed.service;
+
+import com.example.onlyone.domain.feed.repository.FeedRepository;
+import com.example.onlyone.domain.feed.service.FeedViewService.FeedViewDelta;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 조회 통계 증가분을 한 트랜잭션으로 feed 에 반영하고 인기 점수 재계산
+ */
+@Service
+@RequiredArgsConstructor
+public class FeedViewFlushService {
+    private final FeedRepository feedRepository;
+    private final FeedPopularityService feedPopularityService;
+
+    @Transactional
+    public void persist(List<FeedViewDelta> deltas) {
+        for (FeedViewDelta delta : deltas) {
+            if (feedRepository.addViewStats(delta.feedId(), delta.views(), delta.impressions(), delta.uniqueViewers()) > 0) {
+                feedPopularityService.rescore(delta.feedId());
+            }
+        }
+    }
+}
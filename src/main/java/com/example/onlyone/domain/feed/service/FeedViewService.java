@@ -0,0 +1,141 @@
+package com.example.onlyone.domain.feed.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 피드 조회 통계 (행 단위 INSERT 없이 집계)
+ * - 상세 조회 / 목록 노출을 인스턴스 메모리의 피드별 카운터와 조회자 id 집합에 모은다
+ * - 기록과 flush 의 꺼내기는 같은 키에 대한 ConcurrentHashMap.compute / remove 로만 하므로,
+ *   꺼낸 뒤의 기록은 새 항목에 쌓여 다음 주기에 반영된다 (꺼낸 항목에 늦게 더해져 유실되지 않음)
+ * - 주기적으로 조회자 id 를 feed-viewers:{feedId} HyperLogLog 에 합치고,
+ *   (조회수 증가분, 노출수 증가분, 고유 조회자 추정치) 를 feed 에 반영 후 인기 점수 재계산
+ * - Redis/DB 반영이 실패하면 아직 반영되지 않은 피드의 증가분을 다시 pending 에 합쳐 다음 주기에 재시도
+ *   (PFADD 는 여러 번 해도 결과가 같으므로 다시 보내도 된다)
+ * - 인스턴스가 내려가면 마지막 주기의 증가분은 유실될 수 있다 (통계 용도라 허용)
+ */
+@Log4j2
+@Service
+@RequiredArgsConstructor
+public class FeedViewService {
+    private static final String VIEWERS_KEY_PREFIX = "feed-viewers:";
+    private static final Duration VIEWERS_TTL = Duration.ofDays(30);
+    private static final int FLUSH_CHUNK_SIZE = 500;
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final FeedViewFlushService feedViewFlushService;
+
+    private final Map<Long, PendingStats> pending = new ConcurrentHashMap<>();
+
+    public record FeedViewDelta(Long feedId, long views, long impressions, long uniqueViewers) {
+    }
+
+    // pending.compute / merge 안에서만 변경
+    private static final class PendingStats {
+        private long views;
+        private long impressions;
+        private final Set<Long> viewerIds = new HashSet<>();
+    }
+
+    /* 피드 상세 조회 */
+    public void recordView(Long feedId, Long userId) {
+        pending.compute(feedId, (id, stats) -> {
+            PendingStats current = stats != null ? stats : new PendingStats();
+            current.views++;
+            current.viewerIds.add(userId);
+            return current;
+        });
+    }
+
+    /* 피드 목록(개요 카드) 노출 */
+    public void recordImpressions(Collection<Long> feedIds, Long userId) {
+        for (Long feedId : feedIds) {
+            pending.compute(feedId, (id, stats) -> {
+                PendingStats current = stats != null ? stats : new PendingStats();
+                current.impressions++;
+                current.viewerIds.add(userId);
+                return current;
+            });
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${feed.view.flush-interval-millis:30000}")
+    public void flush() {
+        if (pending.isEmpty()) return;
+
+        Map<Long, PendingStats> drained = new HashMap<>();
+        for (Long feedId : pending.keySet()) {
+            PendingStats stats = pending.remove(feedId);
+            if (stats != null) drained.put(feedId, stats);
+        }
+        if (drained.isEmpty()) return;
+
+        try {
+            List<FeedViewDelta> deltas = mergeViewers(drained);
+            for (int from = 0; from < deltas.size(); from += FLUSH_CHUNK_SIZE) {
+                List<FeedViewDelta> chunk = deltas.subList(from, Math.min(from + FLUSH_CHUNK_SIZE, deltas.size()));
+                feedViewFlushService.persist(chunk);
+                // 커밋된 청크는 되돌리지 않도록 제외
+                chunk.forEach(delta -> drained.remove(delta.feedId()));
+            }
+        } catch (Exception e) {
+            log.error("Feed view flush failed: feeds={}, error={}", drained.size(), e.getMessage());
+            drained.forEach(this::restore);
+        }
+    }
+
+    // 반영하지 못한 증가분을 그 사이 새로 쌓인 기록과 합쳐 되돌려 놓음
+    private void restore(Long feedId, PendingStats failed) {
+        pending.merge(feedId, failed, (current, stats) -> {
+            current.views += stats.views;
+            current.impressions += stats.impressions;
+            current.viewerIds.addAll(stats.viewerIds);
+            return current;
+        });
+    }
+
+    // 피드별 PFADD + EXPIRE + PFCOUNT 를 한 파이프라인으로 보내 고유 조회자 추정치 계산
+    private List<FeedViewDelta> mergeViewers(Map<Long, PendingStats> drained) {
+        List<Long> feedIds = new ArrayList<>(drained.keySet());
+        List<Object> results = stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                for (Long feedId : feedIds) {
+                    String key = VIEWERS_KEY_PREFIX + feedId;
+                    String[] viewers = drained.get(feedId).viewerIds.stream()
+                            .map(String::valueOf)
+                            .toArray(String[]::new);
+                    ops.opsForHyperLogLog().add(key, viewers);
+                    ops.expire(key, VIEWERS_TTL);
+                    ops.opsForHyperLogLog().size(key);
+                }
+                return null;
+            }
+        });
+
+        List<FeedViewDelta> deltas = new ArrayList<>(feedIds.size());
+        for (int i = 0; i < feedIds.size(); i++) {
+            Long feedId = feedIds.get(i);
+            PendingStats stats = drained.get(feedId);
+            Object count = results.get(i * 3 + 2);
+            deltas.add(new FeedViewDelta(
+                    feedId,
+                    stats.views,
+                    stats.impressions,
+                    count instanceof Long unique ? unique : 0L));
+        }
+        return deltas;
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.onlyone.domain.feed.service;
+
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 기존 인기 피드 쿼리의 점수식
+ *   LOG(GREATEST(좋아요 + 댓글*2 + (리피드 글이면 2), 1)) - 경과시간(h) / 12
+ * 에서 "- now / 12" 항은 모든 피드에 공통이므로 제거하고, 작성 시각(h) / 12 를 더하는 형태로 저장한다.
+ * (기존 쿼리는 경과 시간을 정수 시간으로 절삭했지만 여기서는 연속값을 쓴다)
+ * 받은 리피드 수는 기존 식에 없으므로 반영하지 않는다.
+ * 기존 식과 달리 고유 조회자(추정치)를 10명당 좋아요 1개 비중으로 더한다.
+ */
+@Component
+public class LogDecayFeedScoreFunction implements FeedScoreFunction {
+    private static final LocalDateTime EPOCH = LocalDateTime.of(2025, 1, 1, 0, 0);
+    private static final double HOURS_PER_LOG_UNIT = 12.0;
+    private static final int COMMENT_WEIGHT = 2;
+    private static final int REFEED_BONUS = 2;
+    private static final double VIEWERS_PER_ENGAGEMENT = 10.0;
+
+    @Override
+    public double score(long likeCount, long commentCount, long repostCount, long uniqueViewerCount,
+                        boolean refeed, LocalDateTime createdAt) {
+        double engagement = likeCount
+                + commentCount * COMMENT_WEIGHT
+                + uniqueViewerCount / VIEWERS_PER_ENGAGEMENT
+                + (refeed ? REFEED_BONUS : 0);
+        LocalDateTime time = createdAt != null ? createdAt : LocalDateTime.now();
+        double hours = Duration.between(EPOCH, time).toSeconds() / 3600.0;
+        return Math.log(Math.max(engagement, 1)) + hours / HOURS_PER_LOG_UNIT;
+    }
+}
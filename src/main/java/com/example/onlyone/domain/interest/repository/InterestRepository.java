@@ -4,8 +4,12 @@ import com.example.onlyone.domain.interest.entity.Category;
 import com.example.onlyone.domain.interest.entity.Interest;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface InterestRepository extends JpaRepository<Interest,Long> {
     Optional<Interest> findByCategory(Category category);
+
+    List<Interest> findAllByCategoryIn(Collection<Category> categories);
 }
\ No newline at end of file
@@ -1,8 +1,10 @@
 package com.example.onlyone.domain.notification.controller;
 
 import com.example.onlyone.domain.notification.dto.requestDto.NotificationCreateRequestDto;
+import com.example.onlyone.domain.notification.dto.requestDto.NotificationReadRequestDto;
 import com.example.onlyone.domain.notification.dto.responseDto.NotificationCreateResponseDto;
 import com.example.onlyone.domain.notification.dto.responseDto.NotificationListResponseDto;
+import com.example.onlyone.domain.notification.dto.responseDto.NotificationReadResponseDto;
 import com.example.onlyone.domain.notification.service.NotificationService;
 import com.example.onlyone.domain.user.entity.User;
 import com.example.onlyone.domain.user.service.UserService;
@@ -21,6 +23,8 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.util.List;
+
 /**
  * 알림 컨트롤러 - 개선된 버전
  */
@@ -88,6 +92,36 @@ public class NotificationController {
     return ResponseEntity.ok(CommonResponse.success(unreadCount));
   }
 
+  /**
+   * 선택한 알림 읽음 처리
+   */
+  @Operation(summary = "알림 읽음 처리", description = "선택한 알림들을 한 번에 읽음 처리합니다 (최대 100개)")
+  @PatchMapping("/read")
+  public ResponseEntity<CommonResponse<NotificationReadResponseDto>> markAsRead(
+      @Valid @RequestBody NotificationReadRequestDto requestDto) {
+
+    User currentUser = userService.getCurrentUser();
+    Long userId = currentUser.getUserId();
+
+    NotificationReadResponseDto responseDto = notificationService.markAsRead(userId, requestDto.getNotificationIds());
+    return ResponseEntity.ok(CommonResponse.success(responseDto));
+  }
+
+  /**
+   * 선택한 알림 삭제
+   */
+  @Operation(summary = "알림 일괄 삭제", description = "선택한 알림들을 한 번에 삭제하고 삭제된 개수를 반환합니다 (최대 100개)")
+  @DeleteMapping
+  public ResponseEntity<CommonResponse<Integer>> deleteNotifications(
+      @RequestParam List<Long> notificationIds) {
+
+    User currentUser = userService.getCurrentUser();
+    Long userId = currentUser.getUserId();
+
+    int deleted = notificationService.deleteNotifications(userId, notificationIds);
+    return ResponseEntity.ok(CommonResponse.success(deleted));
+  }
+
   /**
    * 알림 삭제
    */
@@ -1,9 +1,11 @@
 package com.example.onlyone.domain.notification.dto.requestDto;
 
 import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
 import java.util.List;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
 
 /**
  * 알림 읽음 처리 요청 DTO
@@ -13,9 +15,11 @@ import lombok.Getter;
  */
 @Getter
 @Builder
+@Jacksonized
 public class NotificationReadRequestDto {
 
   @NotEmpty
+  @Size(max = 100)
   private final List<Long> notificationIds;
 
 }
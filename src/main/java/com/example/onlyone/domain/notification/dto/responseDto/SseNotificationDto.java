@@ -5,6 +5,7 @@ import com.example.onlyone.domain.notification.entity.Type;
 import java.time.LocalDateTime;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
 
 /**
  * SSE 실시간 알림 전송용 DTO
@@ -22,9 +23,12 @@ import lombok.Getter;
  * SSE 이벤트 구조:
  * - event: "notification"
  * - data: SseNotificationDto의 JSON 직렬화 데이터
+ *
+ * 다른 인스턴스에 연결된 유저에게 보낼 때는 Redis 채널 메시지로도 직렬화됩니다.
  */
 @Getter
 @Builder
+@Jacksonized
 public class SseNotificationDto {
 
   private final Long notificationId;
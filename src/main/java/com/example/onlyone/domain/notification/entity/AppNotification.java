@@ -18,7 +18,11 @@ import lombok.Setter;
  * 주요 기능: - 알림 타입별 템플릿 기반 메시지 생성 - 읽음/읽지않음 상태 관리 - FCM 전송 상태 추적
  */
 @Entity
-@Table(name = "notification")
+@Table(
+    name = "notification",
+    indexes = {
+        @Index(name = "idx_notification_user_aggregation", columnList = "user_id, aggregation_key, is_read")
+    })
 @Getter
 @Setter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -69,6 +73,19 @@ public class AppNotification extends BaseTimeEntity {
   @Column(name = "fcm_sent", nullable = false)
   private Boolean fcmSent = false;
 
+  /**
+   * 묶음 알림 키 (예: "LIKE:12") 같은 수신자의 읽지 않은 같은 키 알림은 새로 만들지 않고 갱신합니다.
+   * 묶지 않는 알림은 null
+   */
+  @Column(name = "aggregation_key")
+  private String aggregationKey;
+
+  /**
+   * 묶음 알림에 포함된 행위자 수 (최근 행위자 외 actorCount - 1 명)
+   */
+  @Column(name = "actor_count", nullable = false)
+  private Integer actorCount = 1;
+
   /**
    * 알림 생성 팩토리 메서드
    *
@@ -88,6 +105,29 @@ public class AppNotification extends BaseTimeEntity {
     return n;
   }
 
+  /**
+   * 묶음 알림 생성 팩토리 메서드
+   *
+   * @param aggregationKey 묶음 키
+   * @param latestActor    가장 최근 행위자 닉네임
+   * @param actorCount     행위자 수
+   */
+  public static AppNotification createAggregated(User user, NotificationType notificationType,
+      String aggregationKey, String latestActor, int actorCount) {
+    AppNotification n = create(user, notificationType, latestActor, String.valueOf(actorCount - 1));
+    n.aggregationKey = aggregationKey;
+    n.actorCount = actorCount;
+    return n;
+  }
+
+  /**
+   * 읽지 않은 묶음 알림에 행위자를 더하고 메시지를 다시 렌더링
+   */
+  public void aggregate(String latestActor, int additionalActors) {
+    this.actorCount += additionalActors;
+    this.content = notificationType.render(latestActor, String.valueOf(actorCount - 1));
+  }
+
   /**
    * 알림을 읽음 상태로 변경
    * <p>
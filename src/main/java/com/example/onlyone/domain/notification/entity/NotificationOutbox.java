@@ -0,0 +1,87 @@
+package com.example.onlyone.domain.notification.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 알림 전달 아웃박스
+ *
+ * 알림 행과 같은 트랜잭션에서 저장되어, 커밋된 알림은 재시작/장애가 있어도 SSE/FCM 전달이 유실되지 않습니다.
+ * 디스패처가 전달에 성공하면 행을 지우고, 실패하면 attempts 를 올려 next_attempt_at 에 다시 시도합니다.
+ * 최대 시도 횟수를 넘긴 항목은 FAILED 로 남겨 원인 확인용으로 보관합니다.
+ */
+@Entity
+@Table(
+    name = "notification_outbox",
+    indexes = {
+        @Index(name = "idx_notification_outbox_status_next", columnList = "status, next_attempt_at")
+    })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class NotificationOutbox {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @Column(name = "outbox_id", updatable = false)
+  private Long outboxId;
+
+  @Column(name = "notification_id", nullable = false, updatable = false)
+  private Long notificationId;
+
+  /**
+   * CREATED: SSE + FCM, UPDATED: 묶음 알림 갱신이라 SSE 만
+   */
+  @Enumerated(EnumType.STRING)
+  @Column(name = "event_type", nullable = false, length = 20, updatable = false)
+  private EventType eventType;
+
+  @Enumerated(EnumType.STRING)
+  @Column(name = "status", nullable = false, length = 20)
+  private Status status;
+
+  @Column(name = "attempts", nullable = false)
+  private int attempts;
+
+  /**
+   * 다음 전달 시도 가능 시각 (디스패처가 가져가면 임대 만료 시각으로 밀어 다른 인스턴스가 중복으로 가져가지 않게 함)
+   */
+  @Column(name = "next_attempt_at", nullable = false)
+  private LocalDateTime nextAttemptAt;
+
+  @Column(name = "last_error", length = 500)
+  private String lastError;
+
+  @Column(name = "created_at", nullable = false, updatable = false)
+  private LocalDateTime createdAt;
+
+  public enum EventType {
+    CREATED, UPDATED
+  }
+
+  public enum Status {
+    PENDING, FAILED
+  }
+
+  public static NotificationOutbox of(Long notificationId, EventType eventType) {
+    LocalDateTime now = LocalDateTime.now();
+    NotificationOutbox o = new NotificationOutbox();
+    o.notificationId = notificationId;
+    o.eventType = eventType;
+    o.status = Status.PENDING;
+    o.attempts = 0;
+    o.nextAttemptAt = now;
+    o.createdAt = now;
+    return o;
+  }
+
+  /**
+   * 전달 중 임대 - 임대 시각까지 끝나지 않으면(인스턴스 종료 등) 다시 대상이 됨
+   */
+  public void lease(LocalDateTime until) {
+    this.nextAttemptAt = until;
+  }
+}
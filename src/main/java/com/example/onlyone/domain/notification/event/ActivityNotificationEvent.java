@@ -0,0 +1,18 @@
+package com.example.onlyone.domain.notification.event;
+
+import com.example.onlyone.domain.notification.entity.Type;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 피드 좋아요/댓글 활동 이벤트 - 트랜잭션 커밋 후 (수신자, 피드) 단위로 모아 하나의 알림으로 발송
+ */
+@Getter
+@RequiredArgsConstructor
+public class ActivityNotificationEvent {
+    private final Long recipientId;
+    private final Type type;
+    private final Long feedId;
+    private final Long actorId;
+    private final String actorNickname;
+}
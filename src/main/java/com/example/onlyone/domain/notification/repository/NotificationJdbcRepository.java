@@ -0,0 +1,73 @@
+package com.example.onlyone.domain.notification.repository;
+
+import com.example.onlyone.domain.notification.entity.NotificationOutbox;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 같은 내용의 알림을 여러 수신자에게 한 번에 INSERT (채팅방 멤버 전체 알림 등)
+ * IDENTITY 전략이라 Hibernate 배치가 꺼지므로 JDBC batch 로 직접 실행하고,
+ * 생성된 notification_id 로 아웃박스 항목도 한 번에 기록한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class NotificationJdbcRepository {
+  private static final String INSERT_NOTIFICATION_SQL = """
+        INSERT INTO notification (user_id, type_id, content, is_read, fcm_sent, actor_count, created_at, modified_at)
+        VALUES (?, ?, ?, false, false, 1, ?, ?)
+        """;
+  private static final String INSERT_OUTBOX_SQL = """
+        INSERT INTO notification_outbox (notification_id, event_type, status, attempts, next_attempt_at, created_at)
+        VALUES (?, ?, 'PENDING', 0, ?, ?)
+        """;
+
+  private final JdbcTemplate jdbcTemplate;
+
+  /**
+   * @return 수신자 순서대로 생성된 notification_id
+   */
+  public List<Long> insertAll(List<Long> userIds, Long typeId, String content) {
+    if (userIds.isEmpty()) return List.of();
+    Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+    KeyHolder keyHolder = new GeneratedKeyHolder();
+    jdbcTemplate.batchUpdate(
+        con -> con.prepareStatement(INSERT_NOTIFICATION_SQL, new String[]{"notification_id"}),
+        new BatchPreparedStatementSetter() {
+          @Override
+          public void setValues(PreparedStatement ps, int i) throws SQLException {
+            ps.setLong(1, userIds.get(i));
+            ps.setLong(2, typeId);
+            ps.setString(3, content);
+            ps.setTimestamp(4, now);
+            ps.setTimestamp(5, now);
+          }
+
+          @Override
+          public int getBatchSize() {
+            return userIds.size();
+          }
+        },
+        keyHolder);
+    return keyHolder.getKeyList().stream()
+        .map(keys -> ((Number) keys.values().iterator().next()).longValue())
+        .toList();
+  }
+
+  public void insertOutbox(List<Long> notificationIds, NotificationOutbox.EventType eventType) {
+    if (notificationIds.isEmpty()) return;
+    LocalDateTime now = LocalDateTime.now();
+    jdbcTemplate.batchUpdate(INSERT_OUTBOX_SQL, notificationIds.stream()
+        .map(id -> new Object[]{id, eventType.name(), now, now})
+        .toList());
+  }
+}
@@ -0,0 +1,65 @@
+package com.example.onlyone.domain.notification.repository;
+
+import com.example.onlyone.domain.notification.entity.NotificationOutbox;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 알림 아웃박스 리포지토리
+ */
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutbox, Long> {
+
+  /**
+   * 전달 시각이 된 항목 잠금 조회 - 다른 인스턴스가 잠근 행은 건너뛰어 서로 기다리지 않음
+   */
+  @Query(value = """
+        SELECT *
+        FROM notification_outbox o
+        WHERE o.status = 'PENDING'
+          AND o.next_attempt_at <= :now
+        ORDER BY o.next_attempt_at, o.outbox_id
+        LIMIT :limit
+        FOR UPDATE SKIP LOCKED
+        """, nativeQuery = true)
+  List<NotificationOutbox> findDueForUpdate(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+  @Modifying
+  @Query("DELETE FROM NotificationOutbox o WHERE o.outboxId IN :outboxIds")
+  int deleteAllByOutboxIds(@Param("outboxIds") Collection<Long> outboxIds);
+
+  @Modifying
+  @Query("""
+        UPDATE NotificationOutbox o
+        SET o.attempts = :attempts, o.nextAttemptAt = :nextAttemptAt, o.lastError = :lastError
+        WHERE o.outboxId = :outboxId
+        """)
+  int reschedule(@Param("outboxId") Long outboxId,
+                 @Param("attempts") int attempts,
+                 @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+                 @Param("lastError") String lastError);
+
+  @Modifying
+  @Query("""
+        UPDATE NotificationOutbox o
+        SET o.status = com.example.onlyone.domain.notification.entity.NotificationOutbox.Status.FAILED,
+            o.attempts = :attempts, o.lastError = :lastError
+        WHERE o.outboxId = :outboxId
+        """)
+  int markFailed(@Param("outboxId") Long outboxId,
+                 @Param("attempts") int attempts,
+                 @Param("lastError") String lastError);
+
+  /**
+   * 지표용: 대기 중 항목 수 / 가장 오래된 대기 항목 생성 시각
+   */
+  long countByStatus(NotificationOutbox.Status status);
+
+  @Query(value = "SELECT MIN(o.created_at) FROM notification_outbox o WHERE o.status = 'PENDING'", nativeQuery = true)
+  LocalDateTime findOldestPendingCreatedAt();
+}
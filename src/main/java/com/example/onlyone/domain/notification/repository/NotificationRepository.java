@@ -3,11 +3,14 @@ package com.example.onlyone.domain.notification.repository;
 
 import com.example.onlyone.domain.notification.entity.AppNotification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * 알림 리포지토리 - 네이티브 쿼리 사용
@@ -15,9 +18,77 @@ import java.util.List;
 public interface NotificationRepository extends JpaRepository<AppNotification, Long> {
 
   /**
-   * 사용자의 읽지 않은 알림 목록 조회 (엔티티 전체)
+   * 갱신 대상 묶음 알림 조회 (읽지 않은 같은 키의 최신 알림)
    */
-  List<AppNotification> findByUser_UserIdAndIsReadFalse(Long userId);
+  Optional<AppNotification> findFirstByUser_UserIdAndAggregationKeyAndIsReadFalseOrderByNotificationIdDesc(
+      Long userId, String aggregationKey);
+
+  boolean existsByUser_UserIdAndAggregationKeyAndIsReadFalse(Long userId, String aggregationKey);
+
+  /**
+   * 아웃박스 전달용: 수신자/타입까지 한 번에 조회
+   */
+  @Query("""
+        SELECT n FROM AppNotification n
+        JOIN FETCH n.user
+        JOIN FETCH n.notificationType
+        WHERE n.notificationId IN :notificationIds
+        """)
+  List<AppNotification> findAllForDelivery(@Param("notificationIds") Collection<Long> notificationIds);
+
+  /**
+   * FCM 묶음 전송 결과 기록 (배치 전체를 한 번에)
+   */
+  @Modifying
+  @Query("UPDATE AppNotification n SET n.fcmSent = true WHERE n.notificationId IN :notificationIds")
+  int markFcmSentByIds(@Param("notificationIds") Collection<Long> notificationIds);
+
+  /**
+   * 사용자의 읽지 않은 알림 전체 읽음 처리 (UPDATE 한 번)
+   *
+   * @return 읽음 처리된 알림 수
+   */
+  @Modifying
+  @Query("UPDATE AppNotification n SET n.isRead = true WHERE n.user.userId = :userId AND n.isRead = false")
+  int markAllAsReadByUserId(@Param("userId") Long userId);
+
+  /**
+   * 사용자의 알림 중 지정한 알림들 읽음 처리 (다른 사용자의 알림 id 는 무시)
+   *
+   * @return 읽음 처리된 알림 수
+   */
+  @Modifying
+  @Query("""
+        UPDATE AppNotification n SET n.isRead = true
+        WHERE n.user.userId = :userId
+          AND n.isRead = false
+          AND n.notificationId IN :notificationIds
+        """)
+  int markAsReadByIds(@Param("userId") Long userId, @Param("notificationIds") Collection<Long> notificationIds);
+
+  /**
+   * 사용자의 알림 중 지정한 읽지 않은 알림들 삭제 (다른 사용자의 알림 id 는 무시)
+   * 삭제한 행에 락이 걸리므로 동시에 들어온 읽음 처리는 이 행들을 다시 세지 않는다
+   *
+   * @return 삭제된 읽지 않은 알림 수
+   */
+  @Modifying
+  @Query("""
+        DELETE FROM AppNotification n
+        WHERE n.user.userId = :userId
+          AND n.isRead = false
+          AND n.notificationId IN :notificationIds
+        """)
+  int deleteUnreadByIds(@Param("userId") Long userId, @Param("notificationIds") Collection<Long> notificationIds);
+
+  /**
+   * 사용자의 알림 중 지정한 알림들 삭제 (다른 사용자의 알림 id 는 무시)
+   *
+   * @return 삭제된 알림 수
+   */
+  @Modifying
+  @Query("DELETE FROM AppNotification n WHERE n.user.userId = :userId AND n.notificationId IN :notificationIds")
+  int deleteAllByIds(@Param("userId") Long userId, @Param("notificationIds") Collection<Long> notificationIds);
 
   /**
    * 사용자의 읽지 않은 알림 개수 조회
@@ -30,6 +101,18 @@ public interface NotificationRepository extends JpaRepository<AppNotification, L
         """, nativeQuery = true)
   long countByUser_UserIdAndIsReadFalse(@Param("userId") Long userId);
 
+  /**
+   * 사용자별 읽지 않은 알림 개수 일괄 조회 (카운터 검사용, 0건인 사용자는 결과에 없음)
+   */
+  @Query(value = """
+        SELECT n.user_id AS userId, COUNT(*) AS unreadCount
+        FROM notification n
+        WHERE n.user_id IN (:userIds)
+          AND n.is_read = false
+        GROUP BY n.user_id
+        """, nativeQuery = true)
+  List<UnreadCountRow> countUnreadByUserIds(@Param("userIds") Collection<Long> userIds);
+
   /**
    * 특정 시간 이후 생성된 알림 목록 조회 (SSE Last-Event-ID용)
    */
@@ -84,6 +167,11 @@ public interface NotificationRepository extends JpaRepository<AppNotification, L
       @Param("limit") int limit
   );
 
+  interface UnreadCountRow {
+    Long getUserId();
+    Long getUnreadCount();
+  }
+
   /**
    * 네이티브 쿼리 결과를 위한 프로젝션 인터페이스
    */
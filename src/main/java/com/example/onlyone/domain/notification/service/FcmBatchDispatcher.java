@@ -0,0 +1,187 @@
+package com.example.onlyone.domain.notification.service;
+
+import com.example.onlyone.domain.notification.entity.AppNotification;
+import com.google.firebase.messaging.BatchResponse;
+import com.google.firebase.messaging.FirebaseMessaging;
+import com.google.firebase.messaging.FirebaseMessagingException;
+import com.google.firebase.messaging.Message;
+import com.google.firebase.messaging.MessagingErrorCode;
+import com.google.firebase.messaging.SendResponse;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * FCM 묶음 전송
+ * - 알림 배치를 FCM 한도(500건) 단위로 나눠 sendEach 한 번씩 호출, 고정 크기 스레드 풀로 동시 호출 수 제한
+ * - FirebaseMessaging(= Firebase 프로젝트) 단위 초당 전송량 제한 (fcm.rate-limit.per-second)
+ * - 전송 성공한 알림의 fcm_sent 는 배치 전체를 UPDATE 한 번으로 기록
+ */
+@Slf4j
+@Service
+public class FcmBatchDispatcher {
+  static final int MAX_BATCH_SIZE = 500;
+  // 토큰이 더 이상 유효하지 않아 다시 보내도 소용없는 실패
+  private static final Set<MessagingErrorCode> INVALID_TOKEN_ERRORS = Set.of(
+      MessagingErrorCode.UNREGISTERED, MessagingErrorCode.INVALID_ARGUMENT, MessagingErrorCode.SENDER_ID_MISMATCH);
+
+  private final FirebaseMessaging firebaseMessaging;
+  private final FcmService fcmService;
+  private final ExecutorService sendExecutor;
+  private final RateLimiter rateLimiter;
+
+  public FcmBatchDispatcher(FirebaseMessaging firebaseMessaging,
+      FcmService fcmService,
+      @Value("${fcm.batch.concurrency:4}") int concurrency,
+      @Value("${fcm.rate-limit.per-second:1000}") int permitsPerSecond) {
+    this.firebaseMessaging = firebaseMessaging;
+    this.fcmService = fcmService;
+    this.sendExecutor = Executors.newFixedThreadPool(concurrency,
+        Thread.ofPlatform().name("fcm-batch-", 0).daemon(true).factory());
+    this.rateLimiter = new RateLimiter(permitsPerSecond);
+  }
+
+  public enum Result {
+    SENT,
+    // 토큰 없음/무효 - 재시도하지 않음
+    SKIPPED,
+    // 네트워크, 할당량, Firebase 장애 등 - 재시도 대상
+    RETRY
+  }
+
+  /**
+   * 알림 배치 푸시 전송
+   *
+   * @return 알림 id 별 전송 결과
+   */
+  public Map<Long, Result> sendAll(List<AppNotification> appNotifications) {
+    Map<Long, Result> results = new HashMap<>();
+    List<AppNotification> targets = new ArrayList<>();
+    List<Message> messages = new ArrayList<>();
+    for (AppNotification appNotification : appNotifications) {
+      String token = appNotification.getUser().getFcmToken();
+      if (token == null || token.isBlank()) {
+        results.put(appNotification.getNotificationId(), Result.SKIPPED);
+        continue;
+      }
+      try {
+        messages.add(fcmService.buildMessage(appNotification, token));
+        targets.add(appNotification);
+      } catch (IllegalArgumentException e) {
+        log.warn("FCM message build failed: notificationId={}, error={}",
+            appNotification.getNotificationId(), e.getMessage());
+        results.put(appNotification.getNotificationId(), Result.SKIPPED);
+      }
+    }
+
+    List<CompletableFuture<List<Result>>> chunks = new ArrayList<>();
+    for (int from = 0; from < messages.size(); from += MAX_BATCH_SIZE) {
+      List<Message> chunk = messages.subList(from, Math.min(from + MAX_BATCH_SIZE, messages.size()));
+      chunks.add(CompletableFuture.supplyAsync(() -> sendChunk(chunk), sendExecutor));
+    }
+
+    List<Long> sentIds = new ArrayList<>();
+    int offset = 0;
+    for (CompletableFuture<List<Result>> chunk : chunks) {
+      List<Result> chunkResults = chunk.join();
+      for (int i = 0; i < chunkResults.size(); i++) {
+        Long notificationId = targets.get(offset + i).getNotificationId();
+        results.put(notificationId, chunkResults.get(i));
+        if (chunkResults.get(i) == Result.SENT) {
+          sentIds.add(notificationId);
+        }
+      }
+      offset += chunkResults.size();
+    }
+
+    if (!sentIds.isEmpty()) {
+      fcmService.markSent(sentIds);
+    }
+    log.info("FCM batch sent: total={}, sent={}, chunks={}", appNotifications.size(), sentIds.size(), chunks.size());
+    return results;
+  }
+
+  @PreDestroy
+  public void shutdown() throws InterruptedException {
+    sendExecutor.shutdown();
+    sendExecutor.awaitTermination(10, TimeUnit.SECONDS);
+  }
+
+  private List<Result> sendChunk(List<Message> chunk) {
+    try {
+      rateLimiter.acquire(chunk.size());
+      BatchResponse response = firebaseMessaging.sendEach(chunk);
+      return response.getResponses().stream()
+          .map(this::toResult)
+          .toList();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return retryAll(chunk.size());
+    } catch (FirebaseMessagingException e) {
+      log.error("FCM batch send failed: size={}, error={}", chunk.size(), e.getMessage());
+      return retryAll(chunk.size());
+    } catch (Exception e) {
+      log.error("Unexpected FCM batch error: size={}, error={}", chunk.size(), e.getMessage(), e);
+      return retryAll(chunk.size());
+    }
+  }
+
+  private Result toResult(SendResponse response) {
+    if (response.isSuccessful()) {
+      return Result.SENT;
+    }
+    FirebaseMessagingException e = response.getException();
+    if (e != null && INVALID_TOKEN_ERRORS.contains(e.getMessagingErrorCode())) {
+      return Result.SKIPPED;
+    }
+    return Result.RETRY;
+  }
+
+  private List<Result> retryAll(int size) {
+    return Collections.nCopies(size, Result.RETRY);
+  }
+
+  /**
+   * 초당 permitsPerSecond 만큼 채워지는 토큰 버킷 (최대 1초치 누적)
+   */
+  static class RateLimiter {
+    private final double permitsPerNano;
+    private final double capacity;
+    private double available;
+    private long lastRefillNanos;
+
+    RateLimiter(int permitsPerSecond) {
+      this.permitsPerNano = permitsPerSecond / 1_000_000_000D;
+      this.capacity = permitsPerSecond;
+      this.available = permitsPerSecond;
+      this.lastRefillNanos = System.nanoTime();
+    }
+
+    void acquire(int permits) throws InterruptedException {
+      long waitNanos;
+      synchronized (this) {
+        long now = System.nanoTime();
+        available = Math.min(capacity, available + (now - lastRefillNanos) * permitsPerNano);
+        lastRefillNanos = now;
+        // 먼저 차감해 두고 부족분만큼 기다림 (뒤에 오는 호출은 그만큼 더 기다리게 됨)
+        available -= permits;
+        waitNanos = available >= 0 ? 0 : (long) (-available / permitsPerNano);
+      }
+      if (waitNanos > 0) {
+        TimeUnit.NANOSECONDS.sleep(waitNanos);
+      }
+    }
+  }
+}
@@ -14,6 +14,7 @@ import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -105,6 +106,14 @@ public class FcmService {
     }
   }
 
+  /**
+   * FCM 묶음 전송 성공분 기록 (배치 전체를 UPDATE 한 번으로)
+   */
+  @Transactional
+  public void markSent(Collection<Long> notificationIds) {
+    notificationRepository.markFcmSentByIds(notificationIds);
+  }
+
   // ================================
   // Private Helper Methods
   // ================================
@@ -120,7 +129,10 @@ public class FcmService {
     return token;
   }
 
-  private Message buildMessage(AppNotification appNotification, String token) {
+  /**
+   * 알림 -> FCM 메시지 변환 (FcmBatchDispatcher 에서도 사용)
+   */
+  Message buildMessage(AppNotification appNotification, String token) {
     try {
       return Message.builder()
           .setToken(token)
@@ -0,0 +1,140 @@
+package com.example.onlyone.domain.notification.service;
+
+import com.example.onlyone.domain.notification.entity.Type;
+import com.example.onlyone.domain.notification.event.ActivityNotificationEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 좋아요/댓글 알림 묶음 처리
+ *
+ * (수신자, 타입, 피드) 단위로 윈도우 동안 행위자를 모은 뒤 하나의 알림으로 발송합니다.
+ * - notif-agg:{recipientId}:{type}:{feedId} hash 에 최근 행위자 닉네임 보관
+ * - notif-agg:{...}:actors set 에 윈도우 동안의 행위자 id 보관 (같은 유저의 반복 댓글/좋아요 취소 후 재좋아요는 1명)
+ * - notif-agg:due sorted set 에 윈도우 종료 시각을 점수로 등록 (첫 이벤트 기준)
+ * - 주기적으로 종료된 윈도우를 꺼내 NotificationService 에 반영 (읽지 않은 같은 알림이 있으면 갱신)
+ * - notif-agg:{...}:counted set 에 읽지 않은 묶음 알림에 이미 집계된 행위자 id 보관,
+ *   다음 윈도우에서는 여기에 없는 행위자만 인원에 더함 (새 알림을 만들 때 초기화)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationAggregationService {
+
+  private static final String BUCKET_KEY_PREFIX = "notif-agg:";
+  private static final String DUE_KEY = "notif-agg:due";
+  private static final String ACTORS_KEY_SUFFIX = ":actors";
+  private static final String COUNTED_KEY_SUFFIX = ":counted";
+  private static final int DRAIN_BATCH_SIZE = 200;
+  // 읽지 않은 묶음 알림이 남아 있는 동안 집계된 행위자를 기억하는 기간
+  private static final Duration COUNTED_TTL = Duration.ofDays(7);
+
+  static final RedisScript<Long> COLLECT_SCRIPT = new DefaultRedisScript<>("""
+      redis.call('HSET', KEYS[1], 'actor', ARGV[1])
+      local added = redis.call('SADD', KEYS[2], ARGV[2])
+      redis.call('ZADD', KEYS[3], 'NX', ARGV[3], ARGV[4])
+      return added
+      """, Long.class);
+
+  // 윈도우 하나를 원자적으로 가져가고 비운다 (여러 인스턴스 중 하나만 발송)
+  // 반환: {최근 행위자 닉네임, 행위자 id...}
+  static final RedisScript<List> CLAIM_SCRIPT = new DefaultRedisScript<>("""
+      if redis.call('ZREM', KEYS[2], ARGV[1]) == 0 then return {} end
+      local actor = redis.call('HGET', KEYS[1], 'actor')
+      local actorIds = redis.call('SMEMBERS', KEYS[3])
+      redis.call('DEL', KEYS[1], KEYS[3])
+      if not actor then return {} end
+      table.insert(actorIds, 1, actor)
+      return actorIds
+      """, List.class);
+
+  // 집계된 행위자 set 에 이번 윈도우 행위자를 더하고 새로 추가된 인원 반환 (ARGV[1] == '1' 이면 먼저 초기화)
+  static final RedisScript<Long> COUNT_SCRIPT = new DefaultRedisScript<>("""
+      if ARGV[1] == '1' then redis.call('DEL', KEYS[1]) end
+      local added = 0
+      for i = 3, #ARGV do
+        added = added + redis.call('SADD', KEYS[1], ARGV[i])
+      end
+      redis.call('EXPIRE', KEYS[1], ARGV[2])
+      return added
+      """, Long.class);
+
+  private final StringRedisTemplate stringRedisTemplate;
+  private final NotificationService notificationService;
+
+  @Value("${notification.aggregation.window-seconds:60}")
+  private long windowSeconds;
+
+  /**
+   * 활동 이벤트 수집 (커밋된 좋아요/댓글만)
+   */
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  public void collect(ActivityNotificationEvent event) {
+    String member = event.getRecipientId() + ":" + event.getType() + ":" + event.getFeedId();
+    long dueAt = System.currentTimeMillis() + windowSeconds * 1000;
+    String bucketKey = BUCKET_KEY_PREFIX + member;
+    try {
+      stringRedisTemplate.execute(COLLECT_SCRIPT, List.of(bucketKey, bucketKey + ACTORS_KEY_SUFFIX, DUE_KEY),
+          event.getActorNickname(), event.getActorId().toString(), String.valueOf(dueAt), member);
+    } catch (Exception e) {
+      log.error("Notification aggregation collect failed: member={}, error={}", member, e.getMessage());
+    }
+  }
+
+  /**
+   * 윈도우가 끝난 묶음을 알림으로 발송
+   */
+  @Scheduled(fixedDelay = 5000)
+  public void drain() {
+    Set<String> dueMembers = stringRedisTemplate.opsForZSet()
+        .rangeByScore(DUE_KEY, 0, System.currentTimeMillis(), 0, DRAIN_BATCH_SIZE);
+    if (dueMembers == null) return;
+
+    for (String member : dueMembers) {
+      try {
+        emit(member);
+      } catch (Exception e) {
+        log.error("Aggregated notification failed: member={}, error={}", member, e.getMessage());
+      }
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private void emit(String member) {
+    String bucketKey = BUCKET_KEY_PREFIX + member;
+    List<String> bucket = stringRedisTemplate.execute(
+        CLAIM_SCRIPT, List.of(bucketKey, DUE_KEY, bucketKey + ACTORS_KEY_SUFFIX), member);
+    if (bucket == null || bucket.size() < 2 || bucket.get(0) == null) return;
+
+    String[] parts = member.split(":");
+    Long recipientId = Long.valueOf(parts[0]);
+    Type type = Type.valueOf(parts[1]);
+    String aggregationKey = type + ":" + parts[2];
+
+    // 읽지 않은 알림이 없으면 새 알림이므로 이전에 집계된 행위자는 잊고 다시 센다
+    boolean reset = !notificationService.hasUnreadAggregatedNotification(recipientId, aggregationKey);
+    List<String> args = new ArrayList<>(bucket.size() + 1);
+    args.add(reset ? "1" : "0");
+    args.add(String.valueOf(COUNTED_TTL.toSeconds()));
+    args.addAll(bucket.subList(1, bucket.size()));
+    Long newActors = stringRedisTemplate.execute(
+        COUNT_SCRIPT, List.of(bucketKey + COUNTED_KEY_SUFFIX), args.toArray());
+    if (newActors == null || newActors == 0) return;
+
+    notificationService.upsertAggregatedNotification(
+        recipientId, type, aggregationKey, bucket.get(0), newActors.intValue());
+  }
+}
@@ -0,0 +1,192 @@
+package com.example.onlyone.domain.notification.service;
+
+import com.example.onlyone.domain.notification.entity.AppNotification;
+import com.example.onlyone.domain.notification.entity.NotificationOutbox;
+import com.example.onlyone.domain.notification.repository.NotificationOutboxRepository;
+import com.example.onlyone.domain.notification.repository.NotificationRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 알림 아웃박스 디스패처
+ * - 전달 시각이 된 항목을 배치로 가져와(SKIP LOCKED) SSE 는 고정 크기 스레드 풀로, FCM 은 FcmBatchDispatcher 로 묶어서 전달
+ *   -> 동시 전달 수와 메모리 사용량이 제한됨
+ * - 실패 시 지수 백오프로 재시도, 최대 시도 횟수를 넘기면 FAILED 로 보관
+ * - 여러 인스턴스가 동시에 돌아도 같은 항목을 동시에 가져가지 않음 (임대가 끝나기 전까지)
+ *
+ * 지표
+ * - notification.outbox.pending / notification.outbox.lag: 대기 항목 수, 가장 오래된 대기 항목의 나이(초)
+ * - notification.outbox.delivery.lag: 알림 커밋부터 전달 완료까지 걸린 시간
+ * - notification.outbox.delivery{result=delivered|retried|failed}
+ */
+@Slf4j
+@Service
+public class NotificationOutboxDispatcher {
+  private static final int BATCH_SIZE = 100;
+  // 스케줄러 스레드를 다른 작업과 나눠 쓰므로 한 번에 처리하는 배치 수 제한
+  private static final int MAX_BATCHES_PER_RUN = 10;
+  private static final Duration LEASE = Duration.ofMinutes(2);
+  private static final List<Duration> RETRY_BACKOFF = List.of(
+      Duration.ofSeconds(5), Duration.ofSeconds(30), Duration.ofMinutes(2),
+      Duration.ofMinutes(10), Duration.ofMinutes(30));
+  private static final int MAX_ATTEMPTS = RETRY_BACKOFF.size() + 1;
+
+  private final NotificationOutboxService notificationOutboxService;
+  private final NotificationOutboxRepository notificationOutboxRepository;
+  private final NotificationRepository notificationRepository;
+  private final NotificationService notificationService;
+  private final FcmBatchDispatcher fcmBatchDispatcher;
+  private final ExecutorService deliveryExecutor;
+
+  private final AtomicLong pending = new AtomicLong();
+  private final AtomicLong lagSeconds = new AtomicLong();
+  private final Timer deliveryLag;
+  private final Counter delivered;
+  private final Counter retried;
+  private final Counter failed;
+
+  public NotificationOutboxDispatcher(NotificationOutboxService notificationOutboxService,
+      NotificationOutboxRepository notificationOutboxRepository,
+      NotificationRepository notificationRepository,
+      NotificationService notificationService,
+      FcmBatchDispatcher fcmBatchDispatcher,
+      MeterRegistry meterRegistry,
+      @Value("${notification.outbox.concurrency:8}") int concurrency) {
+    this.notificationOutboxService = notificationOutboxService;
+    this.notificationOutboxRepository = notificationOutboxRepository;
+    this.notificationRepository = notificationRepository;
+    this.notificationService = notificationService;
+    this.fcmBatchDispatcher = fcmBatchDispatcher;
+    this.deliveryExecutor = Executors.newFixedThreadPool(concurrency,
+        Thread.ofPlatform().name("notification-outbox-", 0).daemon(true).factory());
+
+    Gauge.builder("notification.outbox.pending", pending, AtomicLong::get).register(meterRegistry);
+    Gauge.builder("notification.outbox.lag", lagSeconds, AtomicLong::get).baseUnit("seconds").register(meterRegistry);
+    this.deliveryLag = Timer.builder("notification.outbox.delivery.lag").register(meterRegistry);
+    this.delivered = Counter.builder("notification.outbox.delivery").tag("result", "delivered").register(meterRegistry);
+    this.retried = Counter.builder("notification.outbox.delivery").tag("result", "retried").register(meterRegistry);
+    this.failed = Counter.builder("notification.outbox.delivery").tag("result", "failed").register(meterRegistry);
+  }
+
+  @Scheduled(fixedDelayString = "${notification.outbox.poll-millis:500}")
+  public void dispatch() {
+    for (int batch = 0; batch < MAX_BATCHES_PER_RUN; batch++) {
+      List<NotificationOutbox> claimed;
+      try {
+        claimed = notificationOutboxService.claim(BATCH_SIZE, LEASE);
+      } catch (Exception e) {
+        log.error("Notification outbox claim failed: error={}", e.getMessage());
+        return;
+      }
+      if (claimed.isEmpty()) return;
+
+      deliverAll(claimed);
+      if (claimed.size() < BATCH_SIZE) return;
+    }
+  }
+
+  @Scheduled(fixedDelayString = "${notification.outbox.metrics-millis:15000}")
+  public void refreshMetrics() {
+    try {
+      pending.set(notificationOutboxRepository.countByStatus(NotificationOutbox.Status.PENDING));
+      LocalDateTime oldest = notificationOutboxRepository.findOldestPendingCreatedAt();
+      lagSeconds.set(oldest == null ? 0 : Math.max(0, Duration.between(oldest, LocalDateTime.now()).toSeconds()));
+    } catch (Exception e) {
+      log.warn("Notification outbox metrics refresh failed: error={}", e.getMessage());
+    }
+  }
+
+  @PreDestroy
+  public void shutdown() throws InterruptedException {
+    deliveryExecutor.shutdown();
+    // 끝나지 못한 항목은 임대 만료 후 다시 전달됨
+    deliveryExecutor.awaitTermination(10, TimeUnit.SECONDS);
+  }
+
+  private void deliverAll(List<NotificationOutbox> claimed) {
+    Map<Long, AppNotification> notifications = notificationRepository.findAllForDelivery(
+            claimed.stream().map(NotificationOutbox::getNotificationId).distinct().toList())
+        .stream()
+        .collect(Collectors.toMap(AppNotification::getNotificationId, Function.identity()));
+
+    // SSE: 처음 시도하는 항목만 (재시도 때는 이미 연결된 클라이언트에 전달됨)
+    CompletableFuture<?>[] realtime = claimed.stream()
+        .filter(o -> o.getAttempts() == 0)
+        .map(o -> notifications.get(o.getNotificationId()))
+        .filter(Objects::nonNull)
+        .map(n -> CompletableFuture.runAsync(() -> notificationService.sendRealtime(n), deliveryExecutor))
+        .toArray(CompletableFuture[]::new);
+
+    // FCM: 새 알림만 배치 하나로 묶어서 전송 (묶음 알림 갱신은 푸시하지 않음)
+    List<AppNotification> pushes = claimed.stream()
+        .filter(o -> o.getEventType() == NotificationOutbox.EventType.CREATED)
+        .map(o -> notifications.get(o.getNotificationId()))
+        .filter(Objects::nonNull)
+        .distinct()
+        .toList();
+    Map<Long, FcmBatchDispatcher.Result> pushResults = pushes.isEmpty()
+        ? Map.of()
+        : fcmBatchDispatcher.sendAll(pushes);
+
+    CompletableFuture.allOf(realtime).join();
+
+    List<Long> completed = new ArrayList<>();
+    LocalDateTime now = LocalDateTime.now();
+    for (NotificationOutbox outbox : claimed) {
+      if (outbox.getEventType() == NotificationOutbox.EventType.CREATED
+          && pushResults.get(outbox.getNotificationId()) == FcmBatchDispatcher.Result.RETRY) {
+        handleFailure(outbox, "FCM send failed");
+        continue;
+      }
+      // 그 사이 삭제된 알림은 전달할 대상이 없으므로 같이 정리
+      completed.add(outbox.getOutboxId());
+      if (notifications.containsKey(outbox.getNotificationId())) {
+        delivered.increment();
+        deliveryLag.record(Duration.between(outbox.getCreatedAt(), now));
+      }
+    }
+    notificationOutboxService.complete(completed);
+  }
+
+  private void handleFailure(NotificationOutbox outbox, String cause) {
+    int attempts = outbox.getAttempts() + 1;
+    try {
+      if (attempts >= MAX_ATTEMPTS) {
+        notificationOutboxService.fail(outbox.getOutboxId(), attempts, cause);
+        failed.increment();
+        log.error("Notification delivery gave up: outboxId={}, notificationId={}, attempts={}, error={}",
+            outbox.getOutboxId(), outbox.getNotificationId(), attempts, cause);
+        return;
+      }
+      LocalDateTime nextAttemptAt = LocalDateTime.now().plus(RETRY_BACKOFF.get(attempts - 1));
+      notificationOutboxService.reschedule(outbox.getOutboxId(), attempts, nextAttemptAt, cause);
+      retried.increment();
+      log.warn("Notification delivery failed, retry at {}: outboxId={}, notificationId={}, attempts={}, error={}",
+          nextAttemptAt, outbox.getOutboxId(), outbox.getNotificationId(), attempts, cause);
+    } catch (Exception e) {
+      // 상태 기록에 실패해도 임대 만료 후 다시 시도됨
+      log.error("Notification outbox update failed: outboxId={}, error={}", outbox.getOutboxId(), e.getMessage());
+    }
+  }
+}
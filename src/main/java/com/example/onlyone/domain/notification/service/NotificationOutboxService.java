@@ -0,0 +1,55 @@
+package com.example.onlyone.domain.notification.service;
+
+import com.example.onlyone.domain.notification.entity.NotificationOutbox;
+import com.example.onlyone.domain.notification.repository.NotificationOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 알림 아웃박스 상태 변경 - 디스패처가 항목마다 짧은 트랜잭션으로 호출
+ */
+@Service
+@RequiredArgsConstructor
+public class NotificationOutboxService {
+  private static final int MAX_ERROR_LENGTH = 500;
+
+  private final NotificationOutboxRepository notificationOutboxRepository;
+
+  /**
+   * 전달 시각이 된 항목을 잠금 조회 후 임대 시각으로 밀어두고 바로 커밋 (잠금은 이 트랜잭션 동안만 유지)
+   */
+  @Transactional
+  public List<NotificationOutbox> claim(int limit, Duration lease) {
+    LocalDateTime now = LocalDateTime.now();
+    List<NotificationOutbox> due = notificationOutboxRepository.findDueForUpdate(now, limit);
+    due.forEach(o -> o.lease(now.plus(lease)));
+    return due;
+  }
+
+  @Transactional
+  public void complete(Collection<Long> outboxIds) {
+    if (outboxIds.isEmpty()) return;
+    notificationOutboxRepository.deleteAllByOutboxIds(outboxIds);
+  }
+
+  @Transactional
+  public void reschedule(Long outboxId, int attempts, LocalDateTime nextAttemptAt, String error) {
+    notificationOutboxRepository.reschedule(outboxId, attempts, nextAttemptAt, truncate(error));
+  }
+
+  @Transactional
+  public void fail(Long outboxId, int attempts, String error) {
+    notificationOutboxRepository.markFailed(outboxId, attempts, truncate(error));
+  }
+
+  private String truncate(String error) {
+    if (error == null || error.length() <= MAX_ERROR_LENGTH) return error;
+    return error.substring(0, MAX_ERROR_LENGTH);
+  }
+}
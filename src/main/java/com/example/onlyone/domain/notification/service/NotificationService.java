@@ -4,9 +4,13 @@ import com.example.onlyone.domain.notification.dto.requestDto.NotificationCreate
 import com.example.onlyone.domain.notification.dto.responseDto.NotificationItemDto;
 import com.example.onlyone.domain.notification.dto.responseDto.NotificationCreateResponseDto;
 import com.example.onlyone.domain.notification.dto.responseDto.NotificationListResponseDto;
+import com.example.onlyone.domain.notification.dto.responseDto.NotificationReadResponseDto;
 import com.example.onlyone.domain.notification.entity.AppNotification;
+import com.example.onlyone.domain.notification.entity.NotificationOutbox;
 import com.example.onlyone.domain.notification.entity.NotificationType;
 import com.example.onlyone.domain.notification.entity.Type;
+import com.example.onlyone.domain.notification.repository.NotificationJdbcRepository;
+import com.example.onlyone.domain.notification.repository.NotificationOutboxRepository;
 import com.example.onlyone.domain.notification.repository.NotificationRepository;
 import com.example.onlyone.domain.notification.repository.NotificationRepository.NotificationListProjection;
 import com.example.onlyone.domain.notification.repository.NotificationTypeRepository;
@@ -16,14 +20,14 @@ import com.example.onlyone.global.exception.CustomException;
 import com.example.onlyone.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.ApplicationEventPublisher;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.transaction.event.TransactionPhase;
-import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -35,12 +39,16 @@ import java.util.stream.Collectors;
 @Slf4j
 public class NotificationService {
 
+  // 선택 읽음/삭제 한 번에 처리할 수 있는 최대 알림 수
+  private static final int MAX_BULK_SIZE = 100;
+
   private final UserRepository userRepository;
   private final NotificationTypeRepository notificationTypeRepository;
   private final NotificationRepository notificationRepository;
-  private final SseEmittersService sseEmittersService;
-  private final FcmService fcmService;
-  private final ApplicationEventPublisher eventPublisher;
+  private final SseDeliveryService sseDeliveryService;
+  private final NotificationOutboxRepository notificationOutboxRepository;
+  private final NotificationJdbcRepository notificationJdbcRepository;
+  private final NotificationUnreadCounter notificationUnreadCounter;
 
   /**
    * 알림 생성 및 전송
@@ -52,8 +60,9 @@ public class NotificationService {
 
     AppNotification appNotification = createAndSaveNotification(user, type, requestDto.getArgs());
     
-    // 이벤트 발행 (트랜잭션 커밋 후 자동 처리)
-    eventPublisher.publishEvent(new NotificationCreatedEvent(appNotification));
+    // 같은 트랜잭션에 전달 항목 기록 (커밋 후 NotificationOutboxDispatcher 가 전달)
+    enqueue(appNotification, NotificationOutbox.EventType.CREATED);
+    incrementUnreadCount(List.of(user.getUserId()));
 
     return NotificationCreateResponseDto.from(appNotification);
   }
@@ -66,22 +75,77 @@ public class NotificationService {
     NotificationType notificationType = findNotificationType(type);
     AppNotification appNotification = createAndSaveNotification(user, notificationType, args);
     
-    // 이벤트 발행 (트랜잭션 커밋 후 자동 처리)
-    eventPublisher.publishEvent(new NotificationCreatedEvent(appNotification));
+    // 같은 트랜잭션에 전달 항목 기록 (커밋 후 NotificationOutboxDispatcher 가 전달)
+    enqueue(appNotification, NotificationOutbox.EventType.CREATED);
+    incrementUnreadCount(List.of(user.getUserId()));
 
     return NotificationCreateResponseDto.from(appNotification);
   }
 
   /**
-   * 트랜잭션 커밋 후 실시간 알림 전송 이벤트 처리
+   * 같은 알림을 여러 수신자에게 일괄 생성 (채팅방 멤버 전체 알림 등)
+   * 타입 조회/템플릿 렌더링은 한 번, 알림/아웃박스 행은 각각 배치 INSERT 한 번으로 처리하고
+   * 전달은 디스패처가 아웃박스 배치 단위로 가져간다.
+   *
+   * @return 생성된 알림 수
    */
-  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
-  @Async
-  public void handleNotificationCreated(NotificationCreatedEvent event) {
-    AppNotification appNotification = event.getNotification();
-    
+  @Transactional
+  public int createNotifications(Collection<User> users, Type type, String... args) {
+    List<Long> userIds = users.stream()
+        .map(User::getUserId)
+        .distinct()
+        .toList();
+    if (userIds.isEmpty()) {
+      return 0;
+    }
+
+    NotificationType notificationType = findNotificationType(type);
+    String content = notificationType.render(args);
+    List<Long> notificationIds = notificationJdbcRepository.insertAll(userIds, notificationType.getTypeId(), content);
+    notificationJdbcRepository.insertOutbox(notificationIds, NotificationOutbox.EventType.CREATED);
+    incrementUnreadCount(userIds);
+    return notificationIds.size();
+  }
+
+  /**
+   * 읽지 않은 같은 묶음 알림이 있는지 (있으면 다음 묶음은 새 알림이 아닌 갱신)
+   */
+  @Transactional(readOnly = true)
+  public boolean hasUnreadAggregatedNotification(Long userId, String aggregationKey) {
+    return notificationRepository.existsByUser_UserIdAndAggregationKeyAndIsReadFalse(userId, aggregationKey);
+  }
+
+  /**
+   * 묶음 알림 반영 - 읽지 않은 같은 키의 알림이 있으면 갱신(SSE 만), 없으면 새로 생성(SSE + FCM)
+   * actorCount 는 이번 묶음에서 새로 더해지는 서로 다른 행위자 수
+   */
+  @Transactional
+  public void upsertAggregatedNotification(Long userId, Type type, String aggregationKey,
+      String latestActor, int actorCount) {
+    Optional<AppNotification> unread = notificationRepository
+        .findFirstByUser_UserIdAndAggregationKeyAndIsReadFalseOrderByNotificationIdDesc(userId, aggregationKey);
+
+    if (unread.isPresent()) {
+      AppNotification appNotification = unread.get();
+      appNotification.aggregate(latestActor, actorCount);
+      enqueue(appNotification, NotificationOutbox.EventType.UPDATED);
+      return;
+    }
+
+    User user = findUser(userId);
+    NotificationType notificationType = findNotificationType(type);
+    AppNotification appNotification = notificationRepository.save(
+        AppNotification.createAggregated(user, notificationType, aggregationKey, latestActor, actorCount));
+    enqueue(appNotification, NotificationOutbox.EventType.CREATED);
+    incrementUnreadCount(List.of(userId));
+  }
+
+  /**
+   * 아웃박스 항목 실시간(SSE) 전달 (NotificationOutboxDispatcher 에서 호출)
+   * 푸시(FCM)는 디스패처가 배치 단위로 FcmBatchDispatcher 에 넘긴다.
+   */
+  public void sendRealtime(AppNotification appNotification) {
     sendSseNotificationSafely(appNotification);
-    sendFcmNotificationAsyncSafely(appNotification);
   }
 
   /**
@@ -108,25 +172,42 @@ public class NotificationService {
    */
   @Transactional(readOnly = true)
   public Long getUnreadCount(Long userId) {
-    return notificationRepository.countByUser_UserIdAndIsReadFalse(userId);
+    return notificationUnreadCounter.get(userId);
   }
 
   /**
-   * 모든 알림 읽음 처리
+   * 모든 알림 읽음 처리 (엔티티를 읽지 않고 UPDATE 한 번)
+   *
+   * @return 읽음 처리된 알림 수
    */
   @Transactional
-  public void markAllAsRead(Long userId) {
+  public int markAllAsRead(Long userId) {
+    int updated = notificationRepository.markAllAsReadByUserId(userId);
+    if (updated == 0) {
+      return 0;
+    }
 
+    decrementUnreadCount(userId, updated);
 
-    List<AppNotification> unreadAppNotifications = notificationRepository.findByUser_UserIdAndIsReadFalse(userId);
-    if (unreadAppNotifications.isEmpty()) {
-      return;
-    }
+    log.info("Marked {} notifications as read for user: {}", updated, userId);
+    return updated;
+  }
 
-    unreadAppNotifications.forEach(AppNotification::markAsRead);
-    sendUnreadCountUpdate(userId);
+  /**
+   * 선택한 알림들 읽음 처리 (UPDATE 한 번, 읽지 않은 개수 알림 한 번)
+   */
+  @Transactional
+  public NotificationReadResponseDto markAsRead(Long userId, List<Long> notificationIds) {
+    List<Long> ids = validateNotificationIds(notificationIds);
+    int updated = ids.isEmpty() ? 0 : notificationRepository.markAsReadByIds(userId, ids);
+    if (updated > 0) {
+      decrementUnreadCount(userId, updated);
+    }
 
-    log.info("Marked {} notifications as read for user: {}", unreadAppNotifications.size(), userId);
+    return NotificationReadResponseDto.builder()
+        .updatedCount(updated)
+        .notificationIds(ids)
+        .build();
   }
 
   /**
@@ -143,7 +224,7 @@ public class NotificationService {
     notificationRepository.delete(appNotification);
 
     if (wasUnread) {
-      sendUnreadCountUpdate(userId);
+      decrementUnreadCount(userId, 1);
     }
 
     log.info("Notification deleted: id={}", notificationId);
@@ -151,10 +232,44 @@ public class NotificationService {
 
 
 
+  /**
+   * 선택한 알림들 삭제 (읽지 않은 알림 DELETE 후 나머지 DELETE, 읽지 않은 알림이 있었으면 개수 알림 한 번)
+   * 카운터 감소량은 첫 DELETE 가 실제로 지운 행 수 - 따로 세고 지우면 그 사이 읽음 처리와 이중으로 감소함
+   *
+   * @return 삭제된 알림 수
+   */
+  @Transactional
+  public int deleteNotifications(Long userId, List<Long> notificationIds) {
+    List<Long> ids = validateNotificationIds(notificationIds);
+    if (ids.isEmpty()) {
+      return 0;
+    }
+
+    int unread = notificationRepository.deleteUnreadByIds(userId, ids);
+    int deleted = unread + notificationRepository.deleteAllByIds(userId, ids);
+    if (unread > 0) {
+      decrementUnreadCount(userId, unread);
+    }
+
+    log.info("Notifications deleted: userId={}, requested={}, deleted={}", userId, ids.size(), deleted);
+    return deleted;
+  }
+
   // ================================
   // Private Helper Methods
   // ================================
 
+  private List<Long> validateNotificationIds(List<Long> notificationIds) {
+    List<Long> ids = notificationIds == null ? List.of() : notificationIds.stream()
+        .filter(Objects::nonNull)
+        .distinct()
+        .toList();
+    if (ids.size() > MAX_BULK_SIZE) {
+      throw new CustomException(ErrorCode.TOO_MANY_NOTIFICATION_IDS);
+    }
+    return ids;
+  }
+
   private User findUser(Long userId) {
     return findEntityOrThrow(
         userRepository.findById(userId),
@@ -188,90 +303,57 @@ public class NotificationService {
     return notificationRepository.save(appNotification);
   }
 
-  private void sendNotifications(AppNotification appNotification) {
-    sendSseNotificationSafely(appNotification);
-    sendFcmNotificationAsyncSafely(appNotification);
+  private void enqueue(AppNotification appNotification, NotificationOutbox.EventType eventType) {
+    notificationOutboxRepository.save(NotificationOutbox.of(appNotification.getNotificationId(), eventType));
   }
 
   private void sendSseNotificationSafely(AppNotification appNotification) {
     executeNotificationSafely(
-        () -> sseEmittersService.sendSseNotification(appNotification.getUser().getUserId(),
+        () -> sseDeliveryService.sendNotification(appNotification.getUser().getUserId(),
             appNotification),
         "SSE", appNotification.getNotificationId()
     );
   }
 
-  private void sendFcmNotificationAsyncSafely(AppNotification appNotification) {
-    Long userId = appNotification.getUser().getUserId();
-    String fcmToken = appNotification.getUser().getFcmToken();
-    
-    // FCM 토큰 상태 상세 로깅
-    log.info("FCM notification attempt: userId={}, notificationId={}, hasToken={}, tokenLength={}, tokenPrefix={}", 
-        userId, appNotification.getNotificationId(), 
-        fcmToken != null, fcmToken != null ? fcmToken.length() : 0,
-        fcmToken != null ? fcmToken.substring(0, Math.min(20, fcmToken.length())) + "..." : "null");
-    
-    if (fcmToken == null || fcmToken.isBlank()) {
-      log.warn("FCM token is null or empty for user: {}, skipping FCM notification", userId);
-      updateFcmSentStatus(appNotification, false);
-      return;
-    }
-    
+  private void executeNotificationSafely(Runnable task, String type, Long id) {
     try {
-      fcmService.sendFcmNotification(appNotification);
-      updateFcmSentStatus(appNotification, true);
-
-
-    } catch (CustomException e) {
-      // FCM 관련 CustomException은 이미 FcmService에서 적절히 로깅됨
-      updateFcmSentStatus(appNotification, false);
-
-
-      // FCM 토큰 관련 에러인 경우 로깅만 수행
-      if (e.getErrorCode() == ErrorCode.FCM_TOKEN_NOT_FOUND) {
-        log.warn("FCM token not found for user: {}, client should refresh token", 
-            appNotification.getUser().getUserId());
-      } else if (e.getErrorCode() == ErrorCode.FCM_TOKEN_REFRESH_REQUIRED) {
-        log.warn("FCM token refresh required for user: {}, client should re-register token", 
-            appNotification.getUser().getUserId());
-      }
+      task.run();
 
     } catch (Exception e) {
-      // 예상치 못한 예외 (FcmService에서 모든 예외를 CustomException으로 변환하므로 발생하지 않아야 함)
-      updateFcmSentStatus(appNotification, false);
-      log.error("Unexpected FCM error: id={}, error={}",
-          appNotification.getNotificationId(), e.getMessage(), e);
+      log.error("{} notification failed: id={}, error={}", type, id, e.getMessage());
     }
   }
 
-  @Transactional
-  private void updateFcmSentStatus(AppNotification appNotification, boolean sent) {
-    try {
-      // 새로운 트랜잭션에서 FCM 전송 상태 업데이트
-      AppNotification managedNotification = notificationRepository.findById(appNotification.getNotificationId())
-          .orElse(null);
-      if (managedNotification != null) {
-        managedNotification.markFcmSent(sent);
-        notificationRepository.save(managedNotification);
-      }
-    } catch (Exception e) {
-      log.error("Failed to update FCM sent status: notificationId={}, error={}", 
-          appNotification.getNotificationId(), e.getMessage());
-    }
+  /**
+   * 읽지 않은 알림 카운터 증감은 커밋 후에 반영 (롤백된 변경이 카운터에 남지 않도록)
+   */
+  private void incrementUnreadCount(Collection<Long> userIds) {
+    afterCommit(() -> notificationUnreadCounter.increment(userIds));
   }
 
-  private void executeNotificationSafely(Runnable task, String type, Long id) {
-    try {
-      task.run();
+  private void decrementUnreadCount(Long userId, long delta) {
+    afterCommit(() -> {
+      notificationUnreadCounter.decrement(userId, delta);
+      sendUnreadCountUpdate(userId);
+    });
+  }
 
-    } catch (Exception e) {
-      log.error("{} notification failed: id={}, error={}", type, id, e.getMessage());
+  private void afterCommit(Runnable task) {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          task.run();
+        }
+      });
+    } else {
+      task.run();
     }
   }
 
   private void sendUnreadCountUpdate(Long userId) {
     executeNotificationSafely(
-        () -> sseEmittersService.sendUnreadCountUpdate(userId),
+        () -> sseDeliveryService.sendUnreadCount(userId),
         "UnreadCount", userId
     );
   }
@@ -301,7 +383,7 @@ public class NotificationService {
     boolean hasMore = nextCursor != null &&
         !notificationRepository.findAfterCursorByUserId(userId, nextCursor, 1).isEmpty();
 
-    Long unreadCount = notificationRepository.countByUser_UserIdAndIsReadFalse(userId);
+    Long unreadCount = notificationUnreadCounter.get(userId);
 
     return NotificationListResponseDto.builder()
         .notifications(notifications)
@@ -310,19 +392,4 @@ public class NotificationService {
         .unreadCount(unreadCount)
         .build();
   }
-
-  /**
-   * 알림 생성 이벤트 클래스
-   */
-  public static class NotificationCreatedEvent {
-    private final AppNotification notification;
-
-    public NotificationCreatedEvent(AppNotification notification) {
-      this.notification = notification;
-    }
-
-    public AppNotification getNotification() {
-      return notification;
-    }
-  }
-}
\ No newline at end of file
+}
@@ -0,0 +1,169 @@
+package com.example.onlyone.domain.notification.service;
+
+import com.example.onlyone.domain.notification.repository.NotificationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * 유저별 읽지 않은 알림 수 (Redis 카운터)
+ * - notification-unread:{userId} 에 보관, 생성/읽음/삭제 커밋 후 INCRBY/DECRBY 로 갱신
+ * - 키가 없으면(신규/만료) 조회 시점에 DB COUNT 로 다시 만들고, 없는 키는 증감하지 않는다
+ * - 재구성과 증감이 엇갈려 생기는 차이는 주기적인 검사로 DB 값에 맞춘다
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NotificationUnreadCounter {
+  private static final String KEY_PREFIX = "notification-unread:";
+  private static final Duration COUNTER_TTL = Duration.ofDays(7);
+  private static final String DRIFT_LOCK_KEY = "notification-unread:drift-lock";
+  private static final Duration DRIFT_LOCK_TTL = Duration.ofMinutes(30);
+  private static final int DRIFT_CHECK_BATCH_SIZE = 500;
+
+  // 키가 있을 때만 증감, 음수가 되지 않게 0 으로 맞춤
+  private static final RedisScript<Long> ADJUST_SCRIPT = new DefaultRedisScript<>("""
+      for _, key in ipairs(KEYS) do
+        if redis.call('EXISTS', key) == 1 then
+          if redis.call('INCRBY', key, ARGV[1]) < 0 then
+            redis.call('SET', key, 0, 'KEEPTTL')
+          end
+        end
+      end
+      return 0
+      """, Long.class);
+
+  // DB COUNT 이후에 읽은 값에서 바뀌지 않았을 때만 보정 (그 사이 증감은 다음 검사에서 다시 확인)
+  private static final RedisScript<Long> CORRECT_SCRIPT = new DefaultRedisScript<>("""
+      if redis.call('GET', KEYS[1]) == ARGV[1] then
+        redis.call('SET', KEYS[1], ARGV[2], 'KEEPTTL')
+        return 1
+      end
+      return 0
+      """, Long.class);
+
+  private static final RedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>("""
+      if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end
+      return 0
+      """, Long.class);
+
+  private final StringRedisTemplate stringRedisTemplate;
+  private final NotificationRepository notificationRepository;
+
+  public long get(Long userId) {
+    String key = key(userId);
+    try {
+      String cached = stringRedisTemplate.opsForValue().get(key);
+      if (cached != null) {
+        return Long.parseLong(cached);
+      }
+      long count = notificationRepository.countByUser_UserIdAndIsReadFalse(userId);
+      // 동시에 다른 요청이 먼저 만들었다면 그 값(이후 증감 반영분 포함)을 따른다
+      if (Boolean.TRUE.equals(stringRedisTemplate.opsForValue()
+          .setIfAbsent(key, String.valueOf(count), COUNTER_TTL))) {
+        return count;
+      }
+      String current = stringRedisTemplate.opsForValue().get(key);
+      return current != null ? Long.parseLong(current) : count;
+    } catch (Exception e) {
+      log.warn("Unread counter read failed, falling back to DB: userId={}, error={}", userId, e.getMessage());
+      return notificationRepository.countByUser_UserIdAndIsReadFalse(userId);
+    }
+  }
+
+  public void increment(Collection<Long> userIds) {
+    adjust(userIds, 1);
+  }
+
+  public void decrement(Long userId, long delta) {
+    if (delta <= 0) return;
+    adjust(List.of(userId), -delta);
+  }
+
+  /**
+   * 카운터 검사: 존재하는 카운터를 배치 단위로 DB 값과 비교해 다르면 보정
+   */
+  @Scheduled(cron = "${notification.unread.drift-check-cron:0 15 * * * *}")
+  public void checkDrift() {
+    String token = UUID.randomUUID().toString();
+    if (!Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(DRIFT_LOCK_KEY, token, DRIFT_LOCK_TTL))) {
+      return;
+    }
+    int checked = 0;
+    int corrected = 0;
+    ScanOptions options = ScanOptions.scanOptions().match(KEY_PREFIX + "[0-9]*").count(DRIFT_CHECK_BATCH_SIZE).build();
+    try (Cursor<String> cursor = stringRedisTemplate.scan(options)) {
+      List<String> keys = new ArrayList<>(DRIFT_CHECK_BATCH_SIZE);
+      while (cursor.hasNext()) {
+        keys.add(cursor.next());
+        if (keys.size() == DRIFT_CHECK_BATCH_SIZE || !cursor.hasNext()) {
+          checked += keys.size();
+          corrected += correct(keys);
+          keys.clear();
+        }
+      }
+      if (corrected > 0) {
+        log.info("Unread counter drift corrected: checked={}, corrected={}", checked, corrected);
+      }
+    } catch (Exception e) {
+      log.error("Unread counter drift check failed: error={}", e.getMessage());
+    } finally {
+      stringRedisTemplate.execute(UNLOCK_SCRIPT, List.of(DRIFT_LOCK_KEY), token);
+    }
+  }
+
+  /**
+   * COUNT 전후로 카운터를 읽어 그 사이 바뀌지 않은 유저만 보정
+   * COUNT 도중 커밋된 생성/읽음의 증감이 COUNT 전 값에 늦게 반영되면 COUNT 와 카운터가 서로 다른 시점이 되므로,
+   * 전후 값이 다르면(검사 중 활동) 이번에는 건너뛰고 보정은 COUNT 이후 값을 기준으로 CAS 한다
+   */
+  int correct(List<String> keys) {
+    List<String> before = stringRedisTemplate.opsForValue().multiGet(keys);
+    if (before == null) return 0;
+    List<Long> userIds = keys.stream().map(key -> Long.valueOf(key.substring(KEY_PREFIX.length()))).toList();
+    Map<Long, Long> actual = notificationRepository.countUnreadByUserIds(userIds).stream()
+        .collect(Collectors.toMap(NotificationRepository.UnreadCountRow::getUserId,
+            NotificationRepository.UnreadCountRow::getUnreadCount));
+    List<String> after = stringRedisTemplate.opsForValue().multiGet(keys);
+    if (after == null) return 0;
+
+    int corrected = 0;
+    for (int i = 0; i < keys.size(); i++) {
+      String current = after.get(i);
+      String expected = String.valueOf(actual.getOrDefault(userIds.get(i), 0L));
+      if (current == null || !current.equals(before.get(i)) || current.equals(expected)) continue;
+      Long result = stringRedisTemplate.execute(CORRECT_SCRIPT, List.of(keys.get(i)), current, expected);
+      if (result != null && result == 1) corrected++;
+    }
+    return corrected;
+  }
+
+  private void adjust(Collection<Long> userIds, long delta) {
+    if (userIds.isEmpty()) return;
+    try {
+      stringRedisTemplate.execute(ADJUST_SCRIPT,
+          userIds.stream().distinct().map(this::key).toList(), String.valueOf(delta));
+    } catch (Exception e) {
+      // 반영하지 못한 증감은 드리프트 검사/키 만료 후 재구성으로 맞춰짐
+      log.error("Unread counter adjust failed: users={}, delta={}, error={}", userIds.size(), delta, e.getMessage());
+    }
+  }
+
+  private String key(Long userId) {
+    return KEY_PREFIX + userId;
+  }
+}
@@ -0,0 +1,157 @@
+package com.example.onlyone.domain.notification.service;
+
+import com.example.onlyone.domain.notification.dto.responseDto.SseNotificationDto;
+import com.example.onlyone.domain.notification.entity.AppNotification;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 인스턴스 간 SSE 전달
+ * - SSE 연결(SseEmitter)은 연결을 받은 인스턴스에만 있고 한 유저가 여러 인스턴스에 연결될 수 있으므로(웹/모바일),
+ *   이 인스턴스의 연결로 바로 보내고 Redis 채널(sse:events)에도 항상 발행해 다른 인스턴스의 연결로도 보내게 한다
+ * - 각 인스턴스는 채널을 구독해 자기에게 연결된 유저의 이벤트만 전달 (자기가 발행한 메시지는 무시)
+ * - 읽지 않은 개수는 값 대신 "다시 읽어서 보내라" 신호만 발행 (카운터는 Redis 에 있어 어느 인스턴스에서든 같은 값)
+ * - 새 피드 알림은 볼 수 있는 유저 목록을 한 번에 발행하고, 각 인스턴스가 자기에게 연결된 유저만 골라
+ *   유저별 묶음 창(첫 새 피드부터 coalesce-millis) 동안 개수를 모아 feed_update 하나로 보낸다
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SseDeliveryService implements MessageListener {
+  static final String CHANNEL = "sse:events";
+
+  private final String nodeId = UUID.randomUUID().toString();
+
+  @Value("${feed.update.coalesce-millis:3000}")
+  private long feedUpdateCoalesceMillis;
+
+  // userId -> 아직 보내지 않은 새 피드 묶음 (이 인스턴스에 연결된 유저만)
+  private final Map<Long, PendingFeedUpdate> pendingFeedUpdates = new ConcurrentHashMap<>();
+
+  private final SseEmittersService sseEmittersService;
+  private final StringRedisTemplate stringRedisTemplate;
+  private final RedisMessageListenerContainer redisMessageListenerContainer;
+  private final ObjectMapper objectMapper;
+
+  public enum EventType {
+    NOTIFICATION, UNREAD_COUNT, FEED_UPDATE
+  }
+
+  /**
+   * 채널 메시지 (notification 은 NOTIFICATION, userIds 는 FEED_UPDATE 일 때만)
+   */
+  public record ClusterEvent(String origin, EventType type, Long userId, SseNotificationDto notification,
+                             List<Long> userIds) {
+  }
+
+  private record PendingFeedUpdate(int count, long openedAt) {
+  }
+
+  @PostConstruct
+  void subscribe() {
+    redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+  }
+
+  public void sendNotification(Long userId, AppNotification appNotification) {
+    SseNotificationDto dto = SseNotificationDto.from(appNotification);
+    if (sseEmittersService.isConnected(userId)) {
+      sseEmittersService.sendSseNotification(userId, dto);
+    }
+    publish(new ClusterEvent(nodeId, EventType.NOTIFICATION, userId, dto, null));
+  }
+
+  public void sendUnreadCount(Long userId) {
+    if (sseEmittersService.isConnected(userId)) {
+      sseEmittersService.sendUnreadCountUpdate(userId);
+    }
+    publish(new ClusterEvent(nodeId, EventType.UNREAD_COUNT, userId, null, null));
+  }
+
+  /**
+   * 새 피드 알림 - 이 인스턴스에 연결된 유저는 바로 묶음에 더하고, 나머지 인스턴스를 위해 목록 전체를 한 번 발행
+   */
+  public void sendFeedUpdate(Collection<Long> userIds) {
+    List<Long> ids = List.copyOf(userIds);
+    queueFeedUpdates(ids);
+    publish(new ClusterEvent(nodeId, EventType.FEED_UPDATE, null, null, ids));
+  }
+
+  /**
+   * 묶음 창이 지난 유저에게 모인 개수를 feed_update 하나로 전송
+   * 조회 이후 개수가 더해진 묶음은 remove(key, value) 가 실패하므로 다음 주기에 함께 보낸다
+   */
+  @Scheduled(fixedDelayString = "${feed.update.flush-interval-millis:500}")
+  public void flushFeedUpdates() {
+    long now = System.currentTimeMillis();
+    pendingFeedUpdates.forEach((userId, pending) -> {
+      if (now - pending.openedAt() < feedUpdateCoalesceMillis) return;
+      if (!pendingFeedUpdates.remove(userId, pending)) return;
+      try {
+        sseEmittersService.sendFeedUpdate(userId, pending.count());
+      } catch (Exception e) {
+        log.warn("Feed update send failed: userId={}, error={}", userId, e.getMessage());
+      }
+    });
+  }
+
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    ClusterEvent event;
+    try {
+      event = objectMapper.readValue(message.getBody(), ClusterEvent.class);
+    } catch (Exception e) {
+      log.warn("Invalid SSE cluster event: error={}", e.getMessage());
+      return;
+    }
+    if (nodeId.equals(event.origin())) {
+      return;
+    }
+    if (event.type() == EventType.FEED_UPDATE) {
+      queueFeedUpdates(event.userIds());
+      return;
+    }
+    if (!sseEmittersService.isConnected(event.userId())) {
+      return;
+    }
+
+    switch (event.type()) {
+      case NOTIFICATION -> sseEmittersService.sendSseNotification(event.userId(), event.notification());
+      case UNREAD_COUNT -> sseEmittersService.sendUnreadCountUpdate(event.userId());
+    }
+  }
+
+  // 이 인스턴스에 연결된 유저만 묶음에 더함 (창은 첫 새 피드 시점부터)
+  private void queueFeedUpdates(List<Long> userIds) {
+    if (userIds == null) return;
+    long now = System.currentTimeMillis();
+    for (Long userId : userIds) {
+      if (!sseEmittersService.isConnected(userId)) continue;
+      pendingFeedUpdates.merge(userId, new PendingFeedUpdate(1, now),
+          (current, added) -> new PendingFeedUpdate(current.count() + 1, current.openedAt()));
+    }
+  }
+
+  private void publish(ClusterEvent event) {
+    try {
+      stringRedisTemplate.convertAndSend(CHANNEL, objectMapper.writeValueAsString(event));
+    } catch (Exception e) {
+      log.error("SSE cluster publish failed: type={}, userId={}, error={}", event.type(), event.userId(), e.getMessage());
+    }
+  }
+}
@@ -14,13 +14,19 @@ import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import java.io.IOException;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
 
 /**
  * SSE 연결 관리 서비스 - Last-Event-ID 지원
+ * - 유저당 여러 연결(탭, 웹/모바일)을 동시에 유지하고 전송은 모든 연결로 보냄
+ * - 유저당 연결 수 상한을 넘으면 가장 오래된 연결부터 종료
+ * - 연결마다 종료/타임아웃/오류 시 자기 연결만 정리
  */
 @Slf4j
 @RequiredArgsConstructor
@@ -30,8 +36,13 @@ public class SseEmittersService {
   @Value("${app.notification.sse-timeout-millis:1800000}") // 기본값 30분
   private long sseTimeoutMillis;
 
-  private final Map<Long, SseEmitter> sseEmitters = new ConcurrentHashMap<>();
+  @Value("${app.notification.sse-max-connections-per-user:5}")
+  private int maxConnectionsPerUser;
+
+  // 유저별 연결 목록 (오래된 순), 변경은 compute 안에서만
+  private final Map<Long, List<SseEmitter>> sseEmitters = new ConcurrentHashMap<>();
   private final NotificationRepository notificationRepository;
+  private final NotificationUnreadCounter notificationUnreadCounter;
 
   /**
    * SSE 연결 생성 (기존 호환성)
@@ -45,16 +56,16 @@ public class SseEmittersService {
    */
   public SseEmitter createSseConnection(Long userId, String lastEventId) {
 
-    cleanupExistingConnection(userId);
     SseEmitter emitter = createNewEmitter(userId);
     registerConnectionCallbacks(emitter, userId);
     
-    // 초기 연결 확인 후 놓친 메시지 전송
+    // 초기 연결 확인 후 놓친 메시지 전송 (새 연결에만)
     if (sendInitialHeartbeat(emitter, userId)) {
       sendMissedNotifications(emitter, userId, lastEventId);
     }
 
-    log.info("SSE connection established: userId={}, totalConnections={}", userId, sseEmitters.size());
+    log.info("SSE connection established: userId={}, userConnections={}, totalUsers={}",
+        userId, sseEmitters.getOrDefault(userId, List.of()).size(), sseEmitters.size());
     return emitter;
   }
 
@@ -62,82 +73,115 @@ public class SseEmittersService {
    * SSE 알림 전송 - Event ID 포함
    */
   public void sendSseNotification(Long userId, AppNotification appNotification) {
-    SseEmitter emitter = sseEmitters.get(userId);
-    if (emitter == null) {
+    sendSseNotification(userId, SseNotificationDto.from(appNotification));
+  }
+
+  /**
+   * SSE 알림 전송 - 다른 인스턴스에서 전달받은 알림 (SseDeliveryService)
+   */
+  public void sendSseNotification(Long userId, SseNotificationDto sseDto) {
+    if (!isConnected(userId)) {
       return;
     }
 
-    try {
-      SseNotificationDto sseDto = SseNotificationDto.from(appNotification);
-      String eventId = generateEventId(appNotification);
-      
-      emitter.send(SseEmitter.event()
-          .id(eventId)
-          .name("notification")
-          .data(sseDto));
-
-    } catch (IOException e) {
-      cleanupConnection(userId, "send_failure");
-    }
+    String eventId = generateEventId(sseDto);
+    sendToAll(userId, () -> SseEmitter.event()
+        .id(eventId)
+        .name("notification")
+        .data(sseDto), "send_failure");
   }
 
   /**
    * 읽지 않은 개수 업데이트 전송 - Event ID 포함
    */
   public void sendUnreadCountUpdate(Long userId) {
-    SseEmitter emitter = sseEmitters.get(userId);
-    if (emitter == null) {
+    if (!isConnected(userId)) {
       return;
     }
 
-    try {
-      Long unreadCount = notificationRepository.countByUser_UserIdAndIsReadFalse(userId);
-      Map<String, Long> countData = new HashMap<>();
-      countData.put("unread_count", unreadCount);
+    Long unreadCount = notificationUnreadCounter.get(userId);
+    Map<String, Long> countData = new HashMap<>();
+    countData.put("unread_count", unreadCount);
 
-      String eventId = generateCountEventId();
-      
-      emitter.send(SseEmitter.event()
-          .id(eventId)
-          .name("unread_count")
-          .data(countData));
+    String eventId = generateCountEventId();
+    sendToAll(userId, () -> SseEmitter.event()
+        .id(eventId)
+        .name("unread_count")
+        .data(countData), "count_update_failure");
+  }
 
-    } catch (IOException e) {
-      cleanupConnection(userId, "count_update_failure");
+  /**
+   * 새 피드 알림 전송 (피드 목록을 다시 조회할지 판단용 개수만 전달)
+   */
+  public void sendFeedUpdate(Long userId, int newFeedCount) {
+    if (!isConnected(userId)) {
+      return;
     }
+
+    Map<String, Integer> countData = new HashMap<>();
+    countData.put("new_feed_count", newFeedCount);
+
+    String eventId = generateFeedUpdateEventId();
+    sendToAll(userId, () -> SseEmitter.event()
+        .id(eventId)
+        .name("feed_update")
+        .data(countData), "feed_update_failure");
+  }
+
+  /**
+   * 이 인스턴스에 SSE 로 연결된 유저인지
+   */
+  public boolean isConnected(Long userId) {
+    return sseEmitters.containsKey(userId);
   }
 
   // ================================
   // Private Helper Methods
   // ================================
 
-  private void cleanupExistingConnection(Long userId) {
-    SseEmitter existingEmitter = sseEmitters.get(userId);
-    if (existingEmitter != null) {
-      existingEmitter.complete();
-      sseEmitters.remove(userId);
+  /**
+   * 유저의 모든 연결로 전송, 실패한 연결만 정리
+   * (SseEventBuilder 는 전송 시 내부 상태가 바뀌므로 연결마다 새로 만든다)
+   */
+  private void sendToAll(Long userId, Supplier<SseEmitter.SseEventBuilder> event, String failureReason) {
+    for (SseEmitter emitter : sseEmitters.getOrDefault(userId, List.of())) {
+      try {
+        emitter.send(event.get());
+      } catch (IOException | IllegalStateException e) {
+        cleanupConnection(userId, emitter, failureReason);
+      }
     }
   }
 
   private SseEmitter createNewEmitter(Long userId) {
     SseEmitter emitter = new SseEmitter(sseTimeoutMillis);
-    sseEmitters.put(userId, emitter);
-    
+    List<SseEmitter> evicted = new ArrayList<>();
+    sseEmitters.compute(userId, (id, emitters) -> {
+      List<SseEmitter> connections = emitters != null ? emitters : new CopyOnWriteArrayList<>();
+      connections.add(emitter);
+      while (connections.size() > maxConnectionsPerUser) {
+        evicted.add(connections.remove(0));
+      }
+      return connections;
+    });
+
+    // 상한을 넘긴 오래된 연결 종료 (목록에서는 이미 빠짐)
+    evicted.forEach(SseEmitter::complete);
     return emitter;
   }
 
   private void registerConnectionCallbacks(SseEmitter emitter, Long userId) {
     emitter.onCompletion(() -> {
-      cleanupConnection(userId, "completion");
+      cleanupConnection(userId, emitter, "completion");
     });
     
     emitter.onTimeout(() -> {
       log.info("SSE connection timed out: userId={}, timeout={}ms", userId, sseTimeoutMillis);
-      cleanupConnection(userId, "timeout");
+      cleanupConnection(userId, emitter, "timeout");
     });
     
     emitter.onError((ex) -> {
-      cleanupConnection(userId, "error");
+      cleanupConnection(userId, emitter, "error");
     });
   }
 
@@ -150,7 +194,7 @@ public class SseEmittersService {
           .data("connected"));
       return true;
     } catch (IOException e) {
-      sseEmitters.remove(userId);
+      cleanupConnection(userId, emitter, "heartbeat_failure");
       throw new CustomException(ErrorCode.SSE_CONNECTION_FAILED);
     }
   }
@@ -175,7 +219,7 @@ public class SseEmittersService {
         for (AppNotification notification : missedNotifications) {
           try {
             SseNotificationDto sseDto = SseNotificationDto.from(notification);
-            String eventId = generateEventId(notification);
+            String eventId = generateEventId(sseDto);
             
             emitter.send(SseEmitter.event()
                 .id(eventId)
@@ -192,8 +236,11 @@ public class SseEmittersService {
     }
   }
 
-  private void cleanupConnection(Long userId, String reason) {
-    sseEmitters.remove(userId);
+  private void cleanupConnection(Long userId, SseEmitter emitter, String reason) {
+    sseEmitters.computeIfPresent(userId, (id, emitters) -> {
+      emitters.remove(emitter);
+      return emitters.isEmpty() ? null : emitters;
+    });
   }
 
   // ================================
@@ -203,10 +250,10 @@ public class SseEmittersService {
   /**
    * 알림용 Event ID 생성 (notification_{notificationId}_{timestamp})
    */
-  private String generateEventId(AppNotification appNotification) {
+  private String generateEventId(SseNotificationDto sseDto) {
     return String.format("notification_%d_%s", 
-        appNotification.getNotificationId(), 
-        appNotification.getCreatedAt().toString());
+        sseDto.getNotificationId(), 
+        sseDto.getCreatedAt().toString());
   }
 
   /**
@@ -216,6 +263,13 @@ public class SseEmittersService {
     return String.format("count_%s", LocalDateTime.now().toString());
   }
 
+  /**
+   * 새 피드 알림용 Event ID 생성
+   */
+  private String generateFeedUpdateEventId() {
+    return String.format("feed-update_%s", LocalDateTime.now().toString());
+  }
+
   /**
    * 하트비트용 Event ID 생성
    */
@@ -4,6 +4,8 @@ import com.example.onlyone.domain.club.entity.Club;
 import com.example.onlyone.domain.club.entity.UserClub;
 import com.example.onlyone.domain.club.repository.ClubRepository;
 import com.example.onlyone.domain.club.repository.UserClubRepository;
+import com.example.onlyone.domain.club.service.ClubGraphService;
+import com.example.onlyone.domain.club.service.ClubGraphService.ClubGraph;
 import com.example.onlyone.domain.interest.entity.Category;
 import com.example.onlyone.domain.search.dto.request.SearchFilterDto;
 import com.example.onlyone.domain.search.dto.response.ClubResponseDto;
@@ -32,6 +34,7 @@ import java.util.List;
 public class SearchService {
     private final ClubRepository clubRepository;
     private final UserClubRepository userClubRepository;
+    private final ClubGraphService clubGraphService;
     private final UserService userService;
     private final UserInterestRepository userInterestRepository;
     private final UserSettlementRepository userSettlementRepository;
@@ -71,10 +74,9 @@ public class SearchService {
         PageRequest pageRequest = PageRequest.of(page, 20);
         List<Object[]> resultList = clubRepository.searchByInterest(interestId, pageRequest);
         User user = userService.getCurrentUser();
-        List<Long> joinedClubIds = userClubRepository.findByUserUserId(user.getUserId())
-                .stream().map(uc -> uc.getClub().getClubId()).toList();
+        ClubGraph clubGraph = clubGraphService.getGraph(user.getUserId());
 
-        return convertToClubResponseDtoWithJoinStatus(resultList, joinedClubIds);
+        return convertToClubResponseDtoWithJoinStatus(resultList, clubGraph);
     }
 
     // 모임 검색 (지역)
@@ -82,10 +84,9 @@ public class SearchService {
         PageRequest pageRequest = PageRequest.of(page, 20);
         List<Object[]> resultList = clubRepository.searchByLocation(city, district, pageRequest);
         User user = userService.getCurrentUser();
-        List<Long> joinedClubIds = userClubRepository.findByUserUserId(user.getUserId())
-                .stream().map(uc -> uc.getClub().getClubId()).toList();
+        ClubGraph clubGraph = clubGraphService.getGraph(user.getUserId());
 
-        return convertToClubResponseDtoWithJoinStatus(resultList, joinedClubIds);
+        return convertToClubResponseDtoWithJoinStatus(resultList, clubGraph);
     }
 
     // 통합 검색 (키워드 + 필터)
@@ -121,17 +122,18 @@ public class SearchService {
         );
 
         User user = userService.getCurrentUser();
-        List<Long> joinedClubIds = userClubRepository.findByUserUserId(user.getUserId())
-                .stream().map(uc -> uc.getClub().getClubId()).toList();
+        ClubGraph clubGraph = clubGraphService.getGraph(user.getUserId());
 
-        return convertKeywordSearchResultsWithJoinStatus(resultList, joinedClubIds);
+        return convertKeywordSearchResultsWithJoinStatus(resultList, clubGraph);
     }
 
     // 함께하는 멤버들의 다른 모임 조회
     public List<ClubResponseDto> getClubsByTeammates(int page, int size) {
         PageRequest pageRequest = PageRequest.of(page, 20);
         User currentUser = userService.getCurrentUser();
-        List<Object[]> resultList = clubRepository.findClubsByTeammates(currentUser.getUserId(), pageRequest);
+        List<Long> teammateClubIds = clubGraphService.getGraph(currentUser.getUserId()).teammateClubIdList();
+        if (teammateClubIds.isEmpty()) return Collections.emptyList();
+        List<Object[]> resultList = clubRepository.findClubsWithMemberCountByIds(teammateClubIds, pageRequest);
 
         // 홈 화면에서 보여주는건 상위 20개 중 랜덤으로 최대 5개
         if (size == 5) {
@@ -153,12 +155,12 @@ public class SearchService {
     }
 
     // 키워드 검색 결과 가입 상태와 함께 변환
-    private List<ClubResponseDto> convertKeywordSearchResultsWithJoinStatus(List<Object[]> results, List<Long> joinedClubIds) {
+    private List<ClubResponseDto> convertKeywordSearchResultsWithJoinStatus(List<Object[]> results, ClubGraph clubGraph) {
         return results.stream().map(result -> {
             Long clubId = ((Number) result[0]).longValue();
             String categoryName = (String) result[5];
             String koreanCategoryName = Category.valueOf(categoryName).getKoreanName();
-            boolean isJoined = joinedClubIds.contains(clubId);
+            boolean isJoined = clubGraph.isJoined(clubId);
             
             return ClubResponseDto.builder()
                     .clubId(clubId)
@@ -174,11 +176,11 @@ public class SearchService {
     }
 
     // 엔티티 -> DTO 가입 상태와 함께 변환
-    private List<ClubResponseDto> convertToClubResponseDtoWithJoinStatus(List<Object[]> results, List<Long> joinedClubIds) {
+    private List<ClubResponseDto> convertToClubResponseDtoWithJoinStatus(List<Object[]> results, ClubGraph clubGraph) {
         return results.stream().map(result -> {
             Club club = (Club) result[0];
             Long memberCount = (Long) result[1];
-            boolean isJoined = joinedClubIds.contains(club.getClubId());
+            boolean isJoined = clubGraph.isJoined(club.getClubId());
             return ClubResponseDto.from(club, memberCount, isJoined);
         }).toList();
     }
@@ -0,0 +1,31 @@
+package com.example.onlyone.domain.settlement.repository;
+
+import com.example.onlyone.domain.settlement.entity.SettlementStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * user_settlement 다건 INSERT (정산 참여자 수만큼의 INSERT 를 JDBC batch 한 번으로)
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserSettlementJdbcRepository {
+    private static final String INSERT_SQL = """
+            INSERT INTO user_settlement (settlement_id, user_id, status, created_at, modified_at)
+            VALUES (?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void insertAll(Long settlementId, List<Long> userIds, SettlementStatus status) {
+        if (userIds.isEmpty()) return;
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.batchUpdate(INSERT_SQL, userIds.stream()
+                .map(userId -> new Object[]{settlementId, userId, status.name(), now, now})
+                .toList());
+    }
+}
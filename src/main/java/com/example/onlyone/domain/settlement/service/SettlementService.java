@@ -13,6 +13,7 @@ import com.example.onlyone.domain.settlement.dto.response.UserSettlementDto;
 import com.example.onlyone.domain.settlement.entity.*;
 import com.example.onlyone.domain.settlement.repository.SettlementRepository;
 import com.example.onlyone.domain.settlement.repository.TransferRepository;
+import com.example.onlyone.domain.settlement.repository.UserSettlementJdbcRepository;
 import com.example.onlyone.domain.settlement.repository.UserSettlementRepository;
 import com.example.onlyone.domain.user.entity.User;
 import com.example.onlyone.domain.user.service.UserService;
@@ -49,6 +50,7 @@ public class SettlementService {
     private final UserScheduleRepository userScheduleRepository;
     private final SettlementRepository settlementRepository;
     private final UserSettlementRepository userSettlementRepository;
+    private final UserSettlementJdbcRepository userSettlementJdbcRepository;
     private final WalletRepository walletRepository;
     private final WalletTransactionRepository walletTransactionRepository;
     private final TransferRepository transferRepository;
@@ -111,14 +113,11 @@ public class SettlementService {
         settlementRepository.save(settlement);
         List<UserSchedule> userSchedules = userScheduleRepository.findUserSchedulesBySchedule(schedule);
         userSchedules.remove(leaderUserSchedule);
-        List<UserSettlement> userSettlements = userSchedules.stream()
-                .map(userSchedule -> UserSettlement.builder()
-                        .user(userSchedule.getUser())
-                        .settlement(settlement)
-                        .settlementStatus(SettlementStatus.REQUESTED)
-                        .build())
+        // 참여자별 정산 행은 JDBC batch 로 한 번에 INSERT
+        List<Long> participantIds = userSchedules.stream()
+                .map(userSchedule -> userSchedule.getUser().getUserId())
                 .toList();
-        userSettlementRepository.saveAll(userSettlements);
+        userSettlementJdbcRepository.insertAll(settlement.getSettlementId(), participantIds, SettlementStatus.REQUESTED);
     }
 
     /* 참여자의 정산 수행 */
@@ -0,0 +1,30 @@
+package com.example.onlyone.domain.user.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+/**
+ * user_interest 다건 INSERT (관심사 수만큼의 INSERT 를 JDBC batch 한 번으로)
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserInterestJdbcRepository {
+    private static final String INSERT_SQL = """
+            INSERT INTO user_interest (user_id, interest_id, created_at, modified_at)
+            VALUES (?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void insertAll(Long userId, Collection<Long> interestIds) {
+        if (interestIds.isEmpty()) return;
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.batchUpdate(INSERT_SQL, interestIds.stream()
+                .map(interestId -> new Object[]{userId, interestId, now, now})
+                .toList());
+    }
+}
@@ -13,7 +13,7 @@ import com.example.onlyone.domain.user.dto.response.ProfileResponseDto;
 import com.example.onlyone.domain.user.entity.Gender;
 import com.example.onlyone.domain.user.entity.Status;
 import com.example.onlyone.domain.user.entity.User;
-import com.example.onlyone.domain.user.entity.UserInterest;
+import com.example.onlyone.domain.user.repository.UserInterestJdbcRepository;
 import com.example.onlyone.domain.user.repository.UserInterestRepository;
 import com.example.onlyone.domain.user.repository.UserRepository;
 import com.example.onlyone.domain.wallet.entity.Wallet;
@@ -46,6 +46,7 @@ import java.util.Objects;
 public class UserService {
     private final UserRepository userRepository;
     private final UserInterestRepository userInterestRepository;
+    private final UserInterestJdbcRepository userInterestJdbcRepository;
     private final InterestRepository interestRepository;
     private final WalletRepository walletRepository;
     private final UserSettlementRepository userSettlementRepository;
@@ -204,18 +205,7 @@ public class UserService {
         user.completeSignup();
 
         // 사용자 관심사 저장
-        List<String> categories = signupRequest.getCategories();
-        for (String categoryName : categories) {
-            Interest interest = interestRepository.findByCategory(Category.from(categoryName))
-                    .orElseThrow(() -> new CustomException(ErrorCode.INTEREST_NOT_FOUND));
-            
-            UserInterest userInterest = UserInterest.builder()
-                    .user(user)
-                    .interest(interest)
-                    .build();
-            
-            userInterestRepository.save(userInterest);
-        }
+        saveInterests(user, signupRequest.getCategories());
 
         // 사용자 지갑 생성 및 웰컴 포인트 100000원 지급
         Wallet wallet = Wallet.builder()
@@ -325,17 +315,24 @@ public class UserService {
         userInterestRepository.deleteByUserId(user.getUserId());
 
         // 새로운 관심사 저장
-        for (String categoryName : request.getInterestsList()) {
-            Interest interest = interestRepository.findByCategory(Category.from(categoryName))
-                    .orElseThrow(() -> new CustomException(ErrorCode.INTEREST_NOT_FOUND));
-
-            UserInterest userInterest = UserInterest.builder()
-                    .user(user)
-                    .interest(interest)
-                    .build();
+        saveInterests(user, request.getInterestsList());
+    }
 
-            userInterestRepository.save(userInterest);
+    /**
+     * 관심사 저장 - 카테고리 조회 1회 + JDBC batch INSERT 1회
+     */
+    private void saveInterests(User user, List<String> categoryNames) {
+        Set<Category> categories = categoryNames.stream()
+                .map(Category::from)
+                .collect(Collectors.toCollection(() -> EnumSet.noneOf(Category.class)));
+        if (categories.isEmpty()) return;
+
+        List<Interest> interests = interestRepository.findAllByCategoryIn(categories);
+        if (interests.size() != categories.size()) {
+            throw new CustomException(ErrorCode.INTEREST_NOT_FOUND);
         }
+        userInterestJdbcRepository.insertAll(user.getUserId(),
+                interests.stream().map(Interest::getInterestId).toList());
     }
 
     /**
@@ -0,0 +1,29 @@
+package com.example.onlyone.global.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * DataSource 드라이버 속성
+ * - IDENTITY 전략이라 Hibernate 배치가 꺼지는 다건 INSERT 는 *JdbcRepository 의 JDBC batch 로 보내는데,
+ *   MySQL 드라이버는 rewriteBatchedStatements=true 일 때만 batch 를 multi-row INSERT 한 번으로 바꾼다
+ * - 접속 URL(application.yml)은 배포 환경별로 따로 관리되므로 URL 대신 커넥션 풀 생성 시 여기서 항상 켠다
+ */
+@Configuration
+public class DataSourceConfig {
+
+    @Bean
+    public static BeanPostProcessor rewriteBatchedStatementsPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource dataSource) {
+                    dataSource.addDataSourceProperty("rewriteBatchedStatements", "true");
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -7,8 +7,11 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 @Configuration
 @EnableCaching
@@ -19,6 +22,10 @@ public class RedisConfig {
     private int port;
     @Value("${spring.data.redis.password}")
     private String password;
+    @Value("${app.redis.listener.pool-size:4}")
+    private int listenerPoolSize;
+    @Value("${app.redis.listener.queue-capacity:10000}")
+    private int listenerQueueCapacity;
 
     @Bean
     public RedisConnectionFactory redisConnectionFactory() {
@@ -39,4 +46,31 @@ public class RedisConfig {
 
         return template;
     }
+
+    // 피드 타임라인 등 id 목록을 sorted set으로 다룰 때 사용하는 문자열 전용 template
+    @Bean
+    public StringRedisTemplate stringRedisTemplate(
+            RedisConnectionFactory redisConnectionFactory) {
+        return new StringRedisTemplate(redisConnectionFactory);
+    }
+
+    // 인스턴스 간 SSE 이벤트 전달 등 pub/sub 구독용
+    // 기본 실행기(SimpleAsyncTaskExecutor)는 메시지마다 스레드를 만들므로 크기가 정해진 풀로 처리
+    // (빈으로 등록하지 않음: @Async 기본 실행기로 잡히지 않도록, 큐가 가득 차면 메시지는 버려짐)
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(
+            RedisConnectionFactory redisConnectionFactory) {
+        ThreadPoolTaskExecutor listenerExecutor = new ThreadPoolTaskExecutor();
+        listenerExecutor.setCorePoolSize(listenerPoolSize);
+        listenerExecutor.setMaxPoolSize(listenerPoolSize);
+        listenerExecutor.setQueueCapacity(listenerQueueCapacity);
+        listenerExecutor.setThreadNamePrefix("redis-listener-");
+        listenerExecutor.setDaemon(true);
+        listenerExecutor.initialize();
+
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.setTaskExecutor(listenerExecutor);
+        return container;
+    }
 }
@@ -0,0 +1,35 @@
+package com.example.onlyone.global.config;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+/**
+ * @Scheduled 작업용 스케줄러
+ * - 기본 스케줄러는 스레드 하나라 알림 아웃박스 디스패처처럼 오래 걸리는 작업이 다른 주기 작업을 모두 밀어내므로 풀로 실행
+ * - 빈으로 등록하지 않음: TaskExecutor 빈으로 잡혀 @Async 실행기나 STOMP 브로커 스케줄러와 섞이지 않게 여기서만 사용
+ */
+@Configuration
+public class SchedulingConfig implements SchedulingConfigurer, DisposableBean {
+
+    @Value("${app.scheduling.pool-size:4}")
+    private int poolSize;
+
+    private final ThreadPoolTaskScheduler taskScheduler = new ThreadPoolTaskScheduler();
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+        taskScheduler.setPoolSize(poolSize);
+        taskScheduler.setThreadNamePrefix("scheduling-");
+        taskScheduler.initialize();
+        taskRegistrar.setTaskScheduler(taskScheduler);
+    }
+
+    @Override
+    public void destroy() {
+        taskScheduler.shutdown();
+    }
+}
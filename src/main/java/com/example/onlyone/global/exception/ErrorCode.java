@@ -46,6 +46,7 @@ public enum ErrorCode {
     FCM_INITIALIZATION_FAILED     (500, "NOTIFY_500_2", "Firebase 초기화에 실패했습니다."),
     FCM_MESSAGE_SEND_FAILED       (502, "NOTIFY_502_1", "FCM 메시지 전송에 실패했습니다."),
     FCM_TOKEN_INVALID(400, "NOTIFY_400_1", "FCM 토큰이 유효하지 않습니다."),
+    TOO_MANY_NOTIFICATION_IDS(400, "NOTIFY_400_2", "한 번에 처리할 수 있는 알림 수를 초과했습니다."),
     FCM_TOKEN_EXPIRED(401, "NOTIFY_401_1", "FCM 토큰이 만료되었습니다."),
     FCM_MESSAGE_TOO_LARGE(413, "NOTIFY_413_1", "FCM 메시지 크기가 너무 큽니다."),
     FCM_QUOTA_EXCEEDED(429, "NOTIFY_429_1", "FCM 전송 할당량을 초과했습니다."),
@@ -108,6 +109,8 @@ public enum ErrorCode {
     MESSAGE_DELETE_ERROR(500, "CHAT_500_3", "메시지 삭제 중 서버 오류가 발생했습니다."),
 
     // Feed
+    INVALID_FEED_CURSOR(400, "FEED_400_1", "유효하지 않은 피드 커서입니다."),
+    INVALID_COMMENT_CURSOR(400, "FEED_400_2", "유효하지 않은 댓글 커서입니다."),
     FEED_NOT_FOUND(404, "FEED_404_1","피드를 찾을 수 없습니다."),
     REFEED_DEPTH_LIMIT(409, "FEED_409_1", "리피드는 두 번까지만 가능합니다."),
     DUPLICATE_REFEED(409,"FEED_409_2", "같은 피드를 이미 공유한 클럽으로 리피드 할 수 없습니다."),
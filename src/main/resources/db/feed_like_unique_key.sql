@@ -0,0 +1,13 @@
+-- feed_like (feed_id, user_id) 유니크 키(uq_feed_like_user) 적용용 일회성 스크립트
+-- - 기존 스키마에는 유니크 키가 없어 같은 유저의 중복 좋아요 행이 있을 수 있고, 그 상태로는 키 추가가 실패한다
+--   (키가 없으면 좋아요 flush 의 INSERT IGNORE 가 중복을 막지 못함)
+-- - 배포 전 한 번 실행: 가장 오래된 행만 남기고 삭제한 뒤 키 추가 (키가 이미 있으면 실행하지 않는다)
+-- - 삭제로 어긋난 feed.like_count 는 FeedPopularityService.rebuildAll 이 feed_like 기준으로 다시 맞춘다
+
+DELETE fl FROM feed_like fl
+  JOIN feed_like keep
+    ON keep.feed_id = fl.feed_id
+   AND keep.user_id = fl.user_id
+   AND keep.feed_like_id < fl.feed_like_id;
+
+ALTER TABLE feed_like ADD CONSTRAINT uq_feed_like_user UNIQUE (feed_id, user_id);
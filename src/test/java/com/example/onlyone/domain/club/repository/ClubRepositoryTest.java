@@ -275,28 +275,6 @@ class ClubRepositoryTest {
         interestRepository.deleteAll();
     }
 
-    @Test
-    @DisplayName("함께하는 멤버들의 다른 모임을 조회할 수 있다")
-    void findClubsByTeammates() {
-        // given - testUser1과 같은 클럽(sportsClubInSeoul)에 속한 testUser2가 있음
-        // testUser2가 다른 클럽에도 가입하도록 설정
-        UserClub userClub = UserClub.builder()
-                .user(testUser2)
-                .club(cultureClubInSeoul)
-                .clubRole(ClubRole.MEMBER)
-                .build();
-        userClubRepository.save(userClub);
-
-        // when - testUser1 기준으로 팀메이트들의 다른 모임 조회
-        List<Object[]> results = clubRepository.findClubsByTeammates(testUser1.getUserId(), pageable);
-
-        // then
-        assertThat(results).hasSize(1);
-        
-        Club club = (Club) results.getFirst()[0];
-        assertThat(club.getName()).isEqualTo("서울 독서 모임");
-    }
-
     @Test
     @Transactional
     @DisplayName("클럽 ID로 클럽을 조회할 수 있다")
@@ -0,0 +1,202 @@
+package com.example.onlyone.domain.feed.service;
+
+import com.example.onlyone.domain.club.entity.Club;
+import com.example.onlyone.domain.club.repository.ClubRepository;
+import com.example.onlyone.domain.club.repository.UserClubRepository;
+import com.example.onlyone.domain.club.service.ClubGraphService;
+import com.example.onlyone.domain.feed.dto.request.FeedCursor;
+import com.example.onlyone.domain.feed.dto.response.FeedListResponseDto;
+import com.example.onlyone.domain.feed.dto.response.FeedOverviewDto;
+import com.example.onlyone.domain.feed.entity.Feed;
+import com.example.onlyone.domain.feed.entity.FeedImage;
+import com.example.onlyone.domain.feed.entity.FeedLike;
+import com.example.onlyone.domain.feed.entity.FeedType;
+import com.example.onlyone.domain.feed.repository.FeedImageRepository;
+import com.example.onlyone.domain.feed.repository.FeedRepository;
+import com.example.onlyone.domain.interest.entity.Category;
+import com.example.onlyone.domain.interest.entity.Interest;
+import com.example.onlyone.domain.notification.service.NotificationService;
+import com.example.onlyone.domain.user.entity.Status;
+import com.example.onlyone.domain.user.entity.User;
+import com.example.onlyone.domain.user.service.UserService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+
+/**
+ * 피드 목록 조회 시 페이지당 SQL 실행 수 검증 (Hibernate Statistics 기준)
+ * 영속성 컨텍스트를 비운 상태에서 조회하므로 지연 로딩으로 인한 N+1 도 함께 집계된다.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class FeedMainServiceTest {
+
+  private static final int PAGE_SIZE = 3;
+
+  @Autowired private TestEntityManager em;
+  @Autowired private EntityManagerFactory entityManagerFactory;
+  @Autowired private FeedRepository feedRepository;
+  @Autowired private FeedImageRepository feedImageRepository;
+  @Autowired private UserClubRepository userClubRepository;
+  @Autowired private ClubRepository clubRepository;
+
+  private final UserService userService = mock(UserService.class);
+  private final FeedTimelineService feedTimelineService = mock(FeedTimelineService.class);
+  private final FeedLikeBufferService feedLikeBufferService = mock(FeedLikeBufferService.class);
+
+  private FeedMainService feedMainService;
+  private Statistics statistics;
+  private User me;
+  private Club club;
+
+  @BeforeEach
+  void setUp() {
+    statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    feedMainService = new FeedMainService(
+        feedRepository,
+        userService,
+        userClubRepository,
+        feedLikeBufferService,
+        feedImageRepository,
+        clubRepository,
+        mock(NotificationService.class),
+        feedTimelineService,
+        mock(ApplicationEventPublisher.class),
+        mock(FeedPopularityService.class),
+        mock(ClubGraphService.class),
+        mock(FeedLineageService.class),
+        new FeedCardCache(new SimpleMeterRegistry(),
+            mock(StringRedisTemplate.class), mock(RedisMessageListenerContainer.class)),
+        mock(FeedCommentService.class),
+        mock(FeedViewService.class));
+
+    Interest interest = em.persist(Interest.builder().category(Category.CULTURE).build());
+    club = em.persist(Club.builder()
+        .name("독서 모임")
+        .description("책을 읽어요")
+        .userLimit(20)
+        .city("서울")
+        .district("강남구")
+        .interest(interest)
+        .build());
+    me = user(1);
+    given(userService.getCurrentUser()).willReturn(me);
+  }
+
+  @ParameterizedTest(name = "피드당 좋아요 {0}개")
+  @ValueSource(ints = {0, 1, 20})
+  @DisplayName("좋아요 수와 무관하게 한 페이지는 고정된 SQL 수로 조회된다")
+  void getPersonalFeed_FixedStatementCount(int likesPerFeed) {
+    // given: 페이지 피드 3개(+ 다음 페이지 확인용 1개), 그중 하나는 부모/루트를 가진 리피드
+    List<User> likers = Stream.iterate(2, i -> i + 1).limit(likesPerFeed).map(this::user).toList();
+    Feed root = feed(null, null, likers);
+    Feed parent = feed(root, root, likers);
+    Feed first = feed(null, null, likers);
+    Feed refeed = feed(parent, root, likers);
+    Feed third = feed(null, null, likers);
+    Feed next = feed(null, null, likers);
+    image(refeed, "a.png");
+    image(refeed, "b.png");
+    image(root, "root.png");
+    // 좋아요 여부는 좋아요 버퍼(Redis)에서 조회
+    given(feedLikeBufferService.findLikedFeedIds(eq(me.getUserId()), anyCollection()))
+        .willReturn(Set.of(refeed.getFeedId(), root.getFeedId()));
+
+    List<FeedCursor> entries = Stream.of(first, refeed, third, next)
+        .sorted(Comparator.comparing(Feed::getFeedId).reversed())
+        .map(f -> new FeedCursor(1_000_000D, f.getFeedId()))
+        .toList();
+    given(feedTimelineService.findPage(eq(me.getUserId()), isNull(), eq(PAGE_SIZE + 1)))
+        .willReturn(Optional.of(entries));
+
+    em.flush();
+    em.clear();
+    statistics.clear();
+
+    // when
+    FeedListResponseDto result = feedMainService.getPersonalFeed(null, PAGE_SIZE);
+
+    // then: (페이지 카드 + 이미지) 1회 + (부모/루트 카드 + 이미지) 1회
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(4);
+    assertThat(statistics.getEntityLoadCount()).isZero();
+    assertThat(statistics.getCollectionLoadCount()).isZero();
+
+    assertThat(result.isHasMore()).isTrue();
+    Map<Long, FeedOverviewDto> byId = result.getFeeds().stream()
+        .collect(Collectors.toMap(FeedOverviewDto::getFeedId, d -> d));
+    assertThat(byId).hasSize(PAGE_SIZE).containsKey(refeed.getFeedId());
+    FeedOverviewDto refeedDto = byId.get(refeed.getFeedId());
+    assertThat(refeedDto.isLiked()).isTrue();
+    assertThat(refeedDto.getParentFeed().isLiked()).isFalse();
+    assertThat(refeedDto.getRootFeed().isLiked()).isTrue();
+    assertThat(refeedDto.getImageUrls()).containsExactlyInAnyOrder("a.png", "b.png");
+    assertThat(refeedDto.getRootFeed().getImageUrls()).containsExactly("root.png");
+    assertThat(refeedDto.getLikeCount()).isEqualTo(likesPerFeed);
+
+    // 같은 페이지 재조회: 카드/이미지는 캐시에서, 사용자별 좋아요 여부만 다시 조회
+    em.clear();
+    statistics.clear();
+    feedMainService.getPersonalFeed(null, PAGE_SIZE);
+    assertThat(statistics.getPrepareStatementCount()).isZero();
+    then(feedLikeBufferService).should(times(2)).findLikedFeedIds(eq(me.getUserId()), anyCollection());
+  }
+
+  private User user(int seq) {
+    return em.persist(User.builder()
+        .kakaoId(90_000L + seq)
+        .nickname("user" + seq)
+        .status(Status.ACTIVE)
+        .build());
+  }
+
+  private Feed feed(Feed parent, Feed root, List<User> likers) {
+    Feed feed = em.persist(Feed.builder()
+        .content("feed")
+        .feedType(parent != null ? FeedType.REFEED : FeedType.ORIGINAL)
+        .parentFeedId(parent != null ? parent.getFeedId() : null)
+        .rootFeedId(root != null ? root.getFeedId() : null)
+        .club(club)
+        .user(me)
+        .likeCount(likers.size())
+        .build());
+    likers.forEach(u -> like(feed, u));
+    return feed;
+  }
+
+  private void image(Feed feed, String url) {
+    em.persist(FeedImage.builder().feed(feed).feedImage(url).build());
+  }
+
+  private void like(Feed feed, User user) {
+    em.persist(FeedLike.builder().feed(feed).user(user).build());
+  }
+}
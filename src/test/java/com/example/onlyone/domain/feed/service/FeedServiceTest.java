@@ -0,0 +1,91 @@
+package com.example.onlyone.domain.feed.service;
+
+import com.example.onlyone.domain.club.entity.Club;
+import com.example.onlyone.domain.club.entity.UserClub;
+import com.example.onlyone.domain.club.repository.ClubRepository;
+import com.example.onlyone.domain.club.repository.UserClubRepository;
+import com.example.onlyone.domain.feed.dto.request.FeedRequestDto;
+import com.example.onlyone.domain.feed.entity.Feed;
+import com.example.onlyone.domain.feed.repository.FeedImageJdbcRepository;
+import com.example.onlyone.domain.feed.repository.FeedRepository;
+import com.example.onlyone.domain.user.entity.User;
+import com.example.onlyone.domain.user.service.UserService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+/**
+ * 피드 생성 시 이미지가 cascade 건별 INSERT 없이 batch 한 번으로 저장되는지 검증
+ * (createFeed 가 쓰는 협력 객체만 mock, 나머지 생성자 인자는 null)
+ */
+@ExtendWith(MockitoExtension.class)
+class FeedServiceTest {
+
+  @Mock
+  private ClubRepository clubRepository;
+  @Mock
+  private FeedRepository feedRepository;
+  @Mock
+  private UserService userService;
+  @Mock
+  private UserClubRepository userClubRepository;
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+  @Mock
+  private FeedPopularityService feedPopularityService;
+  @Mock
+  private FeedVersionService feedVersionService;
+  @Mock
+  private FeedImageJdbcRepository feedImageJdbcRepository;
+  @InjectMocks
+  private FeedService feedService;
+
+  @ParameterizedTest(name = "이미지 {0}개")
+  @ValueSource(ints = {1, 5})
+  @DisplayName("이미지는 피드 INSERT 후 batch 한 번으로 저장된다")
+  void createFeed_ImagesInsertedInOneBatch(int imageCount) {
+    // given
+    User me = User.builder().userId(1L).nickname("me").build();
+    Club club = Club.builder().clubId(10L).build();
+    given(userService.getCurrentUser()).willReturn(me);
+    given(clubRepository.findById(10L)).willReturn(Optional.of(club));
+    given(userClubRepository.findByUserAndClub(me, club)).willReturn(Optional.of(UserClub.builder().build()));
+    given(feedRepository.save(any(Feed.class))).willAnswer(inv -> {
+      Feed feed = inv.getArgument(0);
+      ReflectionTestUtils.setField(feed, "feedId", 100L);
+      return feed;
+    });
+
+    List<String> urls = IntStream.range(0, imageCount).mapToObj(i -> "img-" + i + ".png").toList();
+    FeedRequestDto request = new FeedRequestDto();
+    ReflectionTestUtils.setField(request, "feedUrls", urls);
+    ReflectionTestUtils.setField(request, "content", "hello");
+
+    // when
+    feedService.createFeed(10L, request);
+
+    // then: 이미지는 피드와 함께 cascade 로 건별 INSERT 하지 않고 batch 한 번으로 (INSERT 문 수는 DataSourceConfigTest)
+    ArgumentCaptor<Feed> saved = ArgumentCaptor.forClass(Feed.class);
+    then(feedRepository).should(times(1)).save(saved.capture());
+    assertThat(saved.getValue().getFeedImages()).isEmpty();
+    then(feedImageJdbcRepository).should(times(1)).insertAll(eq(100L), eq(urls));
+  }
+}
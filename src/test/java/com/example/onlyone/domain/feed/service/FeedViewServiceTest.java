@@ -0,0 +1,119 @@
+package com.example.onlyone.domain.feed.service;
+
+import com.example.onlyone.domain.feed.service.FeedViewService.FeedViewDelta;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
+
+/**
+ * 조회 통계 flush 중 동시에 들어온 조회가 유실되지 않는지 검증
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class FeedViewServiceTest {
+
+  private static final Long FEED_ID = 1L;
+  private static final int THREADS = 4;
+  private static final int VIEWS_PER_THREAD = 5_000;
+
+  @Mock
+  private StringRedisTemplate stringRedisTemplate;
+  @Mock
+  private FeedViewFlushService feedViewFlushService;
+  @InjectMocks
+  private FeedViewService feedViewService;
+
+  @Test
+  @DisplayName("flush 와 조회 기록이 겹쳐도 모든 조회수가 한 번씩 반영된다")
+  void flushDuringRecording_NoLostViews() throws Exception {
+    // given: 피드 하나에 대한 PFADD/EXPIRE/PFCOUNT 결과
+    given(stringRedisTemplate.executePipelined(any(SessionCallback.class)))
+        .willReturn(List.of(1L, true, 1L));
+    AtomicLong persistedViews = new AtomicLong();
+    willAnswer(inv -> {
+      List<FeedViewDelta> deltas = inv.getArgument(0);
+      deltas.forEach(delta -> persistedViews.addAndGet(delta.views()));
+      return null;
+    }).given(feedViewFlushService).persist(anyList());
+
+    // when: 여러 스레드가 조회를 기록하는 동안 flush 반복
+    ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+    CountDownLatch done = new CountDownLatch(THREADS);
+    for (int t = 0; t < THREADS; t++) {
+      long userId = t;
+      executor.submit(() -> {
+        for (int i = 0; i < VIEWS_PER_THREAD; i++) {
+          feedViewService.recordView(FEED_ID, userId);
+        }
+        done.countDown();
+      });
+    }
+    while (done.getCount() > 0) {
+      feedViewService.flush();
+    }
+    feedViewService.flush();
+    executor.shutdown();
+    assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+    // then
+    assertThat(persistedViews.get()).isEqualTo((long) THREADS * VIEWS_PER_THREAD);
+  }
+
+  @Test
+  @DisplayName("DB 반영이 실패하면 증가분을 되돌려 다음 flush 에서 새 기록과 함께 반영한다")
+  void flush_PersistFails_RetriedNextFlush() {
+    // given: 첫 flush 의 DB 반영만 실패
+    given(stringRedisTemplate.executePipelined(any(SessionCallback.class)))
+        .willReturn(List.of(1L, true, 1L));
+    List<FeedViewDelta> persisted = new ArrayList<>();
+    willThrow(new IllegalStateException("db down"))
+        .willAnswer(inv -> persisted.addAll(inv.getArgument(0)))
+        .given(feedViewFlushService).persist(anyList());
+    feedViewService.recordView(FEED_ID, 1L);
+    feedViewService.recordView(FEED_ID, 2L);
+    feedViewService.flush();
+
+    // when: 실패 후 들어온 기록과 함께 다시 flush
+    feedViewService.recordImpressions(List.of(FEED_ID), 3L);
+    feedViewService.flush();
+
+    // then
+    assertThat(persisted).hasSize(1);
+    assertThat(persisted.get(0).views()).isEqualTo(2);
+    assertThat(persisted.get(0).impressions()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("기록이 없으면 Redis 와 DB 를 호출하지 않는다")
+  void flush_NothingPending_NoCalls() {
+    // when
+    feedViewService.flush();
+
+    // then
+    then(feedViewFlushService).shouldHaveNoInteractions();
+    then(stringRedisTemplate).shouldHaveNoInteractions();
+  }
+}
@@ -31,6 +31,9 @@ class AppNotificationQueryTest {
   @Mock
   private NotificationRepository notificationRepository;
 
+  @Mock
+  private NotificationUnreadCounter notificationUnreadCounter;
+
   @InjectMocks
   private NotificationService notificationService;
 
@@ -54,7 +57,7 @@ class AppNotificationQueryTest {
         .thenReturn(mockProjections.subList(0, 5));
     when(notificationRepository.findAfterCursorByUserId(userId, 5L, 1))
         .thenReturn(mockProjections.subList(5, 6)); // hasMore = true
-    when(notificationRepository.countByUser_UserIdAndIsReadFalse(userId))
+    when(notificationUnreadCounter.get(userId))
         .thenReturn(unreadCount);
 
     // when
@@ -68,7 +71,7 @@ class AppNotificationQueryTest {
 
     verify(notificationRepository).findFirstPageByUserId(userId, size);
     verify(notificationRepository).findAfterCursorByUserId(userId, 5L, 1);
-    verify(notificationRepository).countByUser_UserIdAndIsReadFalse(userId);
+    verify(notificationUnreadCounter).get(userId);
   }
 
   @Test
@@ -83,7 +86,7 @@ class AppNotificationQueryTest {
         .thenReturn(mockProjections.subList(0, 3));
     when(notificationRepository.findAfterCursorByUserId(userId, 3L, 1))
         .thenReturn(Collections.emptyList()); // hasMore = false
-    when(notificationRepository.countByUser_UserIdAndIsReadFalse(userId))
+    when(notificationUnreadCounter.get(userId))
         .thenReturn(unreadCount);
 
     // when
@@ -97,7 +100,7 @@ class AppNotificationQueryTest {
 
     verify(notificationRepository).findAfterCursorByUserId(userId, cursor, size);
     verify(notificationRepository).findAfterCursorByUserId(userId, 3L, 1);
-    verify(notificationRepository).countByUser_UserIdAndIsReadFalse(userId);
+    verify(notificationUnreadCounter).get(userId);
   }
 
   @Test
@@ -109,7 +112,7 @@ class AppNotificationQueryTest {
 
     when(notificationRepository.findFirstPageByUserId(userId, expectedSize))
         .thenReturn(Collections.emptyList());
-    when(notificationRepository.countByUser_UserIdAndIsReadFalse(userId))
+    when(notificationUnreadCounter.get(userId))
         .thenReturn(0L);
 
     // when
@@ -128,7 +131,7 @@ class AppNotificationQueryTest {
 
     when(notificationRepository.findFirstPageByUserId(userId, size))
         .thenReturn(Collections.emptyList());
-    when(notificationRepository.countByUser_UserIdAndIsReadFalse(userId))
+    when(notificationUnreadCounter.get(userId))
         .thenReturn(unreadCount);
 
     // when
@@ -141,7 +144,7 @@ class AppNotificationQueryTest {
     assertThat(result.getUnreadCount()).isEqualTo(unreadCount);
 
     verify(notificationRepository).findFirstPageByUserId(userId, size);
-    verify(notificationRepository).countByUser_UserIdAndIsReadFalse(userId);
+    verify(notificationUnreadCounter).get(userId);
     verify(notificationRepository, never()).findAfterCursorByUserId(eq(userId), eq(null), eq(1));
   }
 
@@ -157,7 +160,7 @@ class AppNotificationQueryTest {
         .thenReturn(lastPageItems);
     when(notificationRepository.findAfterCursorByUserId(userId, 3L, 1))
         .thenReturn(Collections.emptyList());
-    when(notificationRepository.countByUser_UserIdAndIsReadFalse(userId))
+    when(notificationUnreadCounter.get(userId))
         .thenReturn(1L);
 
     // when
@@ -181,7 +184,7 @@ class AppNotificationQueryTest {
         .thenReturn(exactSizeItems);
     when(notificationRepository.findAfterCursorByUserId(userId, 5L, 1))
         .thenReturn(mockProjections.subList(5, 6));
-    when(notificationRepository.countByUser_UserIdAndIsReadFalse(userId))
+    when(notificationUnreadCounter.get(userId))
         .thenReturn(10L);
 
     // when
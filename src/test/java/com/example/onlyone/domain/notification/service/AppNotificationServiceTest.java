@@ -2,9 +2,13 @@ package com.example.onlyone.domain.notification.service;
 
 import com.example.onlyone.domain.notification.dto.requestDto.NotificationCreateRequestDto;
 import com.example.onlyone.domain.notification.dto.responseDto.NotificationCreateResponseDto;
+import com.example.onlyone.domain.notification.dto.responseDto.NotificationReadResponseDto;
 import com.example.onlyone.domain.notification.entity.AppNotification;
+import com.example.onlyone.domain.notification.entity.NotificationOutbox;
 import com.example.onlyone.domain.notification.entity.NotificationType;
 import com.example.onlyone.domain.notification.entity.Type;
+import com.example.onlyone.domain.notification.repository.NotificationJdbcRepository;
+import com.example.onlyone.domain.notification.repository.NotificationOutboxRepository;
 import com.example.onlyone.domain.notification.repository.NotificationRepository;
 import com.example.onlyone.domain.notification.repository.NotificationTypeRepository;
 import com.example.onlyone.domain.user.entity.User;
@@ -16,6 +20,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
@@ -23,20 +28,22 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
-import java.util.Arrays;
-import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.LongStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 
 /**
  * NotificationService 완전한 테스트
@@ -52,11 +59,13 @@ class AppNotificationServiceTest {
   @Mock
   private NotificationRepository notificationRepository;
   @Mock
-  private SseEmittersService sseEmittersService;
+  private SseDeliveryService sseDeliveryService;
   @Mock
-  private FcmService fcmService;
+  private NotificationOutboxRepository notificationOutboxRepository;
   @Mock
-  private org.springframework.context.ApplicationEventPublisher eventPublisher;
+  private NotificationJdbcRepository notificationJdbcRepository;
+  @Mock
+  private NotificationUnreadCounter notificationUnreadCounter;
   @InjectMocks
   private NotificationService service;
 
@@ -87,7 +96,9 @@ class AppNotificationServiceTest {
         // then
         assertThat(result.getNotificationId()).isEqualTo(1L);
         then(notificationRepository).should().save(any(AppNotification.class));
-        // 실제 전송은 @TransactionalEventListener에서 비동기로 처리됨
+        // 실제 전송은 같은 트랜잭션에 기록된 아웃박스 항목을 디스패처가 처리함
+        then(notificationOutboxRepository).should().save(any(NotificationOutbox.class));
+        then(notificationUnreadCounter).should().increment(List.of(1L));
       }
     }
 
@@ -151,6 +162,34 @@ class AppNotificationServiceTest {
         // FCM 토큰이 없으므로 FCM 전송 시도하지 않음
       }
     }
+
+    @Test
+    @DisplayName("일괄 알림 생성 - 수신자 수와 무관하게 타입 조회/렌더링 1회, 배치 INSERT 로 처리")
+    void createNotifications_BatchInsert() {
+      // given
+      NotificationType mockType = createMockNotificationType();
+      given(mockType.getTypeId()).willReturn(7L);
+      given(mockType.render("홍길동")).willReturn("홍길동님이 메시지를 보냈습니다.");
+      given(notificationTypeRepository.findByType(Type.CHAT)).willReturn(Optional.of(mockType));
+      List<User> targets = LongStream.rangeClosed(1, 300)
+          .mapToObj(id -> User.builder().userId(id).build())
+          .toList();
+      List<Long> notificationIds = LongStream.rangeClosed(1001, 1300).boxed().toList();
+      given(notificationJdbcRepository.insertAll(any(), any(), any())).willReturn(notificationIds);
+
+      // when
+      int created = service.createNotifications(targets, Type.CHAT, "홍길동");
+
+      // then
+      assertThat(created).isEqualTo(300);
+      then(notificationTypeRepository).should(times(1)).findByType(Type.CHAT);
+      then(mockType).should(times(1)).render("홍길동");
+      then(notificationJdbcRepository).should(times(1)).insertAll(
+          LongStream.rangeClosed(1, 300).boxed().toList(), 7L, "홍길동님이 메시지를 보냈습니다.");
+      then(notificationJdbcRepository).should(times(1))
+          .insertOutbox(notificationIds, NotificationOutbox.EventType.CREATED);
+      then(notificationRepository).shouldHaveNoInteractions();
+    }
   }
 
   @Nested
@@ -175,7 +214,8 @@ class AppNotificationServiceTest {
 
       // then
       then(notificationRepository).should().delete(mockAppNotification);
-      then(sseEmittersService).should().sendUnreadCountUpdate(userId);
+      then(notificationUnreadCounter).should().decrement(userId, 1);
+      then(sseDeliveryService).should().sendUnreadCount(userId);
     }
 
     @Test
@@ -196,7 +236,8 @@ class AppNotificationServiceTest {
 
       // then
       then(notificationRepository).should().delete(mockAppNotification);
-      then(sseEmittersService).should(never()).sendUnreadCountUpdate(any());
+      then(notificationUnreadCounter).should(never()).decrement(any(), anyLong());
+      then(sseDeliveryService).should(never()).sendUnreadCount(any());
     }
 
     @Test
@@ -242,36 +283,108 @@ class AppNotificationServiceTest {
     void markAllAsRead_NoUnreadNotifications() {
       // given
       Long userId = 1L;
-      given(notificationRepository.findByUser_UserIdAndIsReadFalse(userId))
-          .willReturn(Collections.emptyList());
+      given(notificationRepository.markAllAsReadByUserId(userId)).willReturn(0);
 
       // when
-      service.markAllAsRead(userId);
+      int updated = service.markAllAsRead(userId);
 
       // then
-      then(sseEmittersService).shouldHaveNoInteractions();
+      assertThat(updated).isZero();
+      then(notificationUnreadCounter).shouldHaveNoInteractions();
+      then(sseDeliveryService).shouldHaveNoInteractions();
     }
 
     @Test
-    @DisplayName("읽지 않은 알림들을 모두 읽음 처리")
+    @DisplayName("읽지 않은 알림들을 UPDATE 한 번으로 모두 읽음 처리")
     void markAllAsRead_HasUnreadNotifications() {
       // given
       Long userId = 1L;
-      AppNotification appNotification1 = mock(AppNotification.class);
-      AppNotification appNotification2 = mock(AppNotification.class);
-      List<AppNotification> unreadAppNotifications = Arrays.asList(appNotification1,
-          appNotification2);
+      given(notificationRepository.markAllAsReadByUserId(userId)).willReturn(2);
+
+      // when
+      int updated = service.markAllAsRead(userId);
+
+      // then
+      assertThat(updated).isEqualTo(2);
+      then(notificationRepository).should().markAllAsReadByUserId(userId);
+      then(notificationRepository).shouldHaveNoMoreInteractions();
+      then(notificationUnreadCounter).should().decrement(userId, 2);
+      then(sseDeliveryService).should().sendUnreadCount(userId);
+    }
+  }
+
+  @Nested
+  @DisplayName("선택 읽음/삭제 테스트")
+  class BulkReadDeleteTests {
+
+    @Test
+    @DisplayName("선택한 알림 읽음 처리 - UPDATE 한 번, 개수 알림 한 번")
+    void markAsRead_SelectedNotifications() {
+      // given
+      Long userId = 1L;
+      List<Long> ids = List.of(10L, 11L, 12L);
+      given(notificationRepository.markAsReadByIds(userId, ids)).willReturn(2);
 
-      given(notificationRepository.findByUser_UserIdAndIsReadFalse(userId))
-          .willReturn(unreadAppNotifications);
+      // when
+      NotificationReadResponseDto result = service.markAsRead(userId, ids);
+
+      // then
+      assertThat(result.getUpdatedCount()).isEqualTo(2);
+      assertThat(result.getNotificationIds()).containsExactly(10L, 11L, 12L);
+      then(notificationUnreadCounter).should().decrement(userId, 2);
+      then(sseDeliveryService).should(times(1)).sendUnreadCount(userId);
+    }
+
+    @Test
+    @DisplayName("선택한 알림 삭제 - 읽지 않은 알림 DELETE 가 지운 수만큼 카운터 감소")
+    void deleteNotifications_SelectedNotifications() {
+      // given
+      Long userId = 1L;
+      List<Long> ids = List.of(10L, 11L, 12L);
+      given(notificationRepository.deleteUnreadByIds(userId, ids)).willReturn(1);
+      given(notificationRepository.deleteAllByIds(userId, ids)).willReturn(2);
+
+      // when
+      int deleted = service.deleteNotifications(userId, ids);
+
+      // then
+      assertThat(deleted).isEqualTo(3);
+      InOrder inOrder = inOrder(notificationRepository);
+      inOrder.verify(notificationRepository).deleteUnreadByIds(userId, ids);
+      inOrder.verify(notificationRepository).deleteAllByIds(userId, ids);
+      then(notificationUnreadCounter).should().decrement(userId, 1L);
+      then(sseDeliveryService).should(times(1)).sendUnreadCount(userId);
+    }
+
+    @Test
+    @DisplayName("선택한 알림 삭제 - 그 사이 모두 읽음 처리됐으면 카운터를 줄이지 않는다")
+    void deleteNotifications_AlreadyReadConcurrently_NoDecrement() {
+      // given: 읽음 처리가 먼저 커밋되어 읽지 않은 알림 DELETE 대상이 없음
+      Long userId = 1L;
+      List<Long> ids = List.of(10L, 11L);
+      given(notificationRepository.deleteUnreadByIds(userId, ids)).willReturn(0);
+      given(notificationRepository.deleteAllByIds(userId, ids)).willReturn(2);
 
       // when
-      service.markAllAsRead(userId);
+      int deleted = service.deleteNotifications(userId, ids);
 
       // then
-      then(appNotification1).should().markAsRead();
-      then(appNotification2).should().markAsRead();
-      then(sseEmittersService).should().sendUnreadCountUpdate(userId);
+      assertThat(deleted).isEqualTo(2);
+      then(notificationUnreadCounter).should(never()).decrement(any(), anyLong());
+      then(sseDeliveryService).should(never()).sendUnreadCount(any());
+    }
+
+    @Test
+    @DisplayName("한 번에 처리할 수 있는 수 초과 - 예외 발생")
+    void deleteNotifications_TooManyIds() {
+      // given
+      List<Long> ids = LongStream.rangeClosed(1, 101).boxed().toList();
+
+      // when & then
+      assertThatThrownBy(() -> service.deleteNotifications(1L, ids))
+          .isInstanceOf(CustomException.class)
+          .hasFieldOrPropertyWithValue("errorCode", ErrorCode.TOO_MANY_NOTIFICATION_IDS);
+      then(notificationRepository).shouldHaveNoInteractions();
     }
   }
 
@@ -280,20 +393,17 @@ class AppNotificationServiceTest {
   class EventHandlingTests {
 
     @Test
-    @DisplayName("알림 생성 이벤트 처리 - SSE 및 FCM 전송")
-    void handleNotificationCreated_Success() {
+    @DisplayName("아웃박스 항목 실시간 전달 - SSE 전송 (FCM 은 FcmBatchDispatcher 가 배치로 전송)")
+    void sendRealtime_Success() {
       // given
       User mockUser = createMockUserWithValidToken();
       AppNotification mockAppNotification = createMockNotification(mockUser);
-      NotificationService.NotificationCreatedEvent event = 
-          new NotificationService.NotificationCreatedEvent(mockAppNotification);
 
       // when
-      service.handleNotificationCreated(event);
+      service.sendRealtime(mockAppNotification);
 
       // then
-      then(sseEmittersService).should().sendSseNotification(1L, mockAppNotification);
-      then(fcmService).should().sendFcmNotification(mockAppNotification);
+      then(sseDeliveryService).should().sendNotification(1L, mockAppNotification);
     }
   }
 
@@ -0,0 +1,190 @@
+package com.example.onlyone.domain.notification.service;
+
+import com.example.onlyone.domain.notification.entity.AppNotification;
+import com.example.onlyone.domain.notification.entity.NotificationType;
+import com.example.onlyone.domain.notification.entity.Type;
+import com.example.onlyone.domain.notification.repository.NotificationRepository;
+import com.example.onlyone.domain.user.entity.User;
+import com.google.firebase.messaging.BatchResponse;
+import com.google.firebase.messaging.FirebaseMessaging;
+import com.google.firebase.messaging.FirebaseMessagingException;
+import com.google.firebase.messaging.Message;
+import com.google.firebase.messaging.MessagingErrorCode;
+import com.google.firebase.messaging.SendResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+/**
+ * FCM 묶음 전송 검증 - 로컬 스텁 FirebaseMessaging 사용
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class FcmBatchDispatcherTest {
+
+  @Mock
+  private NotificationRepository notificationRepository;
+
+  private StubFirebaseMessaging stub;
+  private FcmBatchDispatcher dispatcher;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    stub = new StubFirebaseMessaging();
+    FirebaseMessaging firebaseMessaging = mock(FirebaseMessaging.class);
+    given(firebaseMessaging.sendEach(anyList())).willAnswer(inv -> stub.sendEach(inv.getArgument(0)));
+    // 동시 호출 1개: 스텁이 받는 배치 순서가 보낸 순서와 같도록
+    dispatcher = new FcmBatchDispatcher(firebaseMessaging,
+        new FcmService(firebaseMessaging, notificationRepository), 1, 100_000);
+  }
+
+  @AfterEach
+  void tearDown() throws InterruptedException {
+    dispatcher.shutdown();
+  }
+
+  @Test
+  @DisplayName("FCM 한도(500건) 단위로 나눠 sendEach 호출, 전송 성공분 fcm_sent 는 UPDATE 한 번")
+  void sendAll_SplitsIntoFcmBatches() {
+    // given: 토큰 있는 알림 1201건 + 토큰 없는 알림 1건
+    List<AppNotification> notifications = new ArrayList<>(LongStream.rangeClosed(1, 1201)
+        .mapToObj(id -> notification(id, "token-" + id))
+        .toList());
+    notifications.add(notification(9999L, null));
+
+    // when
+    Map<Long, FcmBatchDispatcher.Result> results = dispatcher.sendAll(notifications);
+
+    // then
+    assertThat(stub.batchSizes).containsExactly(500, 500, 201);
+    assertThat(results).hasSize(1202);
+    assertThat(results.get(1L)).isEqualTo(FcmBatchDispatcher.Result.SENT);
+    assertThat(results.get(1201L)).isEqualTo(FcmBatchDispatcher.Result.SENT);
+    assertThat(results.get(9999L)).isEqualTo(FcmBatchDispatcher.Result.SKIPPED);
+
+    ArgumentCaptor<Collection<Long>> sentIds = ArgumentCaptor.captor();
+    then(notificationRepository).should(times(1)).markFcmSentByIds(sentIds.capture());
+    assertThat(sentIds.getValue()).hasSize(1201).doesNotContain(9999L);
+  }
+
+  @Test
+  @DisplayName("무효 토큰은 재시도하지 않고, 일시적 실패만 재시도 대상으로 분류")
+  void sendAll_ClassifiesFailures() {
+    // given
+    stub.failures = Map.of(
+        1, MessagingErrorCode.UNREGISTERED,
+        2, MessagingErrorCode.UNAVAILABLE);
+    List<AppNotification> notifications = List.of(
+        notification(10L, "ok"), notification(11L, "unregistered"), notification(12L, "unavailable"));
+
+    // when
+    Map<Long, FcmBatchDispatcher.Result> results = dispatcher.sendAll(notifications);
+
+    // then
+    assertThat(results).containsEntry(10L, FcmBatchDispatcher.Result.SENT)
+        .containsEntry(11L, FcmBatchDispatcher.Result.SKIPPED)
+        .containsEntry(12L, FcmBatchDispatcher.Result.RETRY);
+    then(notificationRepository).should().markFcmSentByIds(List.of(10L));
+  }
+
+  @Test
+  @DisplayName("배치 호출 자체가 실패하면 전부 재시도 대상, fcm_sent 기록 없음")
+  void sendAll_WholeBatchFailure() {
+    // given
+    stub.failWholeBatch = true;
+
+    // when
+    Map<Long, FcmBatchDispatcher.Result> results = dispatcher.sendAll(
+        List.of(notification(1L, "a"), notification(2L, "b")));
+
+    // then
+    assertThat(results.values()).containsOnly(FcmBatchDispatcher.Result.RETRY);
+    then(notificationRepository).should(never()).markFcmSentByIds(anyCollection());
+  }
+
+  private AppNotification notification(Long notificationId, String fcmToken) {
+    User user = mock(User.class);
+    given(user.getUserId()).willReturn(notificationId);
+    given(user.getFcmToken()).willReturn(fcmToken);
+    NotificationType type = mock(NotificationType.class);
+    given(type.getType()).willReturn(Type.CHAT);
+
+    AppNotification appNotification = mock(AppNotification.class);
+    given(appNotification.getNotificationId()).willReturn(notificationId);
+    given(appNotification.getUser()).willReturn(user);
+    given(appNotification.getNotificationType()).willReturn(type);
+    given(appNotification.getContent()).willReturn("홍길동님이 메시지를 보냈습니다.");
+    given(appNotification.getCreatedAt()).willReturn(LocalDateTime.now());
+    return appNotification;
+  }
+
+  /**
+   * sendEach 스텁 - 받은 배치 크기를 기록하고, 배치 내 위치별로 지정한 실패를 돌려준다
+   */
+  private static class StubFirebaseMessaging {
+    private final List<Integer> batchSizes = new ArrayList<>();
+    private Map<Integer, MessagingErrorCode> failures = Map.of();
+    private boolean failWholeBatch;
+
+    BatchResponse sendEach(List<Message> messages) throws FirebaseMessagingException {
+      batchSizes.add(messages.size());
+      if (failWholeBatch) {
+        throw failure(MessagingErrorCode.INTERNAL);
+      }
+      List<SendResponse> responses = new ArrayList<>();
+      for (int i = 0; i < messages.size(); i++) {
+        SendResponse response = mock(SendResponse.class);
+        MessagingErrorCode errorCode = failures.get(i);
+        given(response.isSuccessful()).willReturn(errorCode == null);
+        if (errorCode != null) {
+          FirebaseMessagingException exception = failure(errorCode);
+          given(response.getException()).willReturn(exception);
+        }
+        responses.add(response);
+      }
+      return new StubBatchResponse(responses);
+    }
+
+    private FirebaseMessagingException failure(MessagingErrorCode errorCode) {
+      FirebaseMessagingException exception = mock(FirebaseMessagingException.class);
+      given(exception.getMessagingErrorCode()).willReturn(errorCode);
+      return exception;
+    }
+  }
+
+  private record StubBatchResponse(List<SendResponse> getResponses) implements BatchResponse {
+
+    @Override
+    public int getSuccessCount() {
+      return (int) getResponses.stream().filter(SendResponse::isSuccessful).count();
+    }
+
+    @Override
+    public int getFailureCount() {
+      return getResponses.size() - getSuccessCount();
+    }
+  }
+}
@@ -0,0 +1,165 @@
+package com.example.onlyone.domain.notification.service;
+
+import com.example.onlyone.domain.notification.entity.Type;
+import com.example.onlyone.domain.notification.event.ActivityNotificationEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.*;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+/**
+ * 좋아요/댓글 묶음 알림의 행위자 수 집계 테스트
+ * Redis 는 스크립트별 동작(hash/set/sorted set)을 메모리로 흉내 낸 스텁을 사용
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class NotificationAggregationServiceTest {
+
+  private static final Long RECIPIENT_ID = 1L;
+  private static final Long FEED_ID = 100L;
+  private static final String AGGREGATION_KEY = Type.COMMENT + ":" + FEED_ID;
+
+  @Mock private StringRedisTemplate stringRedisTemplate;
+  @Mock private ZSetOperations<String, String> zSetOperations;
+  @Mock private NotificationService notificationService;
+  @InjectMocks private NotificationAggregationService aggregationService;
+
+  private final Map<String, String> latestActors = new HashMap<>();
+  private final Map<String, Set<String>> sets = new HashMap<>();
+  private final Set<String> due = new LinkedHashSet<>();
+
+  @BeforeEach
+  void setUp() {
+    ReflectionTestUtils.setField(aggregationService, "windowSeconds", 0L);
+    given(stringRedisTemplate.opsForZSet()).willReturn(zSetOperations);
+    given(zSetOperations.rangeByScore(anyString(), anyDouble(), anyDouble(), anyLong(), anyLong()))
+        .willAnswer(inv -> new LinkedHashSet<>(due));
+    willAnswer(inv -> runScript(inv.getRawArguments()))
+        .given(stringRedisTemplate).execute(any(RedisScript.class), anyList(), any(Object[].class));
+  }
+
+  @Test
+  @DisplayName("같은 유저가 윈도우 안에서 두 번 댓글을 달면 1명으로 집계된다")
+  void sameActorTwiceInWindow_CountsOnce() {
+    // given
+    given(notificationService.hasUnreadAggregatedNotification(RECIPIENT_ID, AGGREGATION_KEY)).willReturn(false);
+    aggregationService.collect(comment(2L, "철수"));
+    aggregationService.collect(comment(2L, "철수"));
+
+    // when
+    aggregationService.drain();
+
+    // then
+    then(notificationService).should()
+        .upsertAggregatedNotification(RECIPIENT_ID, Type.COMMENT, AGGREGATION_KEY, "철수", 1);
+  }
+
+  @Test
+  @DisplayName("읽지 않은 묶음 알림에 이미 집계된 유저는 다음 윈도우에서 다시 더하지 않는다")
+  void sameActorInLaterWindow_NotCountedAgain() {
+    // given: 첫 윈도우에서 철수, 영희 집계
+    given(notificationService.hasUnreadAggregatedNotification(RECIPIENT_ID, AGGREGATION_KEY)).willReturn(false);
+    aggregationService.collect(comment(2L, "철수"));
+    aggregationService.collect(comment(3L, "영희"));
+    aggregationService.drain();
+    then(notificationService).should()
+        .upsertAggregatedNotification(RECIPIENT_ID, Type.COMMENT, AGGREGATION_KEY, "영희", 2);
+
+    // when: 알림을 읽기 전 철수만 다시 댓글
+    given(notificationService.hasUnreadAggregatedNotification(RECIPIENT_ID, AGGREGATION_KEY)).willReturn(true);
+    aggregationService.collect(comment(2L, "철수"));
+    aggregationService.drain();
+
+    // then: 새 인원이 없으므로 알림 변경 없음
+    then(notificationService).should(never())
+        .upsertAggregatedNotification(eq(RECIPIENT_ID), eq(Type.COMMENT), eq(AGGREGATION_KEY), eq("철수"), anyInt());
+
+    // when: 새 유저 민수가 댓글
+    aggregationService.collect(comment(4L, "민수"));
+    aggregationService.drain();
+
+    // then: 민수 1명만 더해짐
+    then(notificationService).should()
+        .upsertAggregatedNotification(RECIPIENT_ID, Type.COMMENT, AGGREGATION_KEY, "민수", 1);
+  }
+
+  @Test
+  @DisplayName("묶음 알림을 읽은 뒤에는 같은 유저도 새 알림의 인원으로 다시 센다")
+  void afterRead_SameActorCountedForNewNotification() {
+    // given
+    given(notificationService.hasUnreadAggregatedNotification(RECIPIENT_ID, AGGREGATION_KEY)).willReturn(false);
+    aggregationService.collect(comment(2L, "철수"));
+    aggregationService.drain();
+
+    // when: 읽음 처리 후(읽지 않은 알림 없음) 같은 유저가 다시 댓글
+    aggregationService.collect(comment(2L, "철수"));
+    aggregationService.drain();
+
+    // then
+    then(notificationService).should(times(2))
+        .upsertAggregatedNotification(RECIPIENT_ID, Type.COMMENT, AGGREGATION_KEY, "철수", 1);
+  }
+
+  private ActivityNotificationEvent comment(Long actorId, String nickname) {
+    return new ActivityNotificationEvent(RECIPIENT_ID, Type.COMMENT, FEED_ID, actorId, nickname);
+  }
+
+  // NotificationAggregationService 의 Lua 스크립트와 같은 동작
+  @SuppressWarnings("unchecked")
+  private Object runScript(Object[] raw) {
+    RedisScript<?> script = (RedisScript<?>) raw[0];
+    List<String> keys = (List<String>) raw[1];
+    Object[] args = (Object[]) raw[2];
+
+    if (script == NotificationAggregationService.COLLECT_SCRIPT) {
+      latestActors.put(keys.get(0), (String) args[0]);
+      boolean added = sets.computeIfAbsent(keys.get(1), k -> new HashSet<>()).add((String) args[1]);
+      due.add((String) args[3]);
+      return added ? 1L : 0L;
+    }
+    if (script == NotificationAggregationService.CLAIM_SCRIPT) {
+      if (!due.remove((String) args[0])) return List.of();
+      String actor = latestActors.remove(keys.get(0));
+      Set<String> actorIds = Optional.ofNullable(sets.remove(keys.get(2))).orElse(Set.of());
+      if (actor == null) return List.of();
+      List<String> result = new ArrayList<>();
+      result.add(actor);
+      result.addAll(actorIds);
+      return result;
+    }
+    if (script == NotificationAggregationService.COUNT_SCRIPT) {
+      if ("1".equals(args[0])) sets.remove(keys.get(0));
+      Set<String> counted = sets.computeIfAbsent(keys.get(0), k -> new HashSet<>());
+      long added = 0;
+      for (int i = 2; i < args.length; i++) {
+        if (counted.add((String) args[i])) added++;
+      }
+      return added;
+    }
+    throw new IllegalArgumentException("unknown script");
+  }
+}
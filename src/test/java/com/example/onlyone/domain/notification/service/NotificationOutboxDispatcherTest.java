@@ -0,0 +1,181 @@
+package com.example.onlyone.domain.notification.service;
+
+import com.example.onlyone.domain.notification.entity.AppNotification;
+import com.example.onlyone.domain.notification.entity.NotificationOutbox;
+import com.example.onlyone.domain.notification.repository.NotificationOutboxRepository;
+import com.example.onlyone.domain.notification.repository.NotificationRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+
+/**
+ * 알림 아웃박스 디스패처 검증 - 재시도 백오프, 최대 시도 후 FAILED, 지표
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class NotificationOutboxDispatcherTest {
+
+  private static final Long NOTIFICATION_ID = 10L;
+  private static final Long OUTBOX_ID = 1L;
+
+  @Mock
+  private NotificationOutboxService notificationOutboxService;
+  @Mock
+  private NotificationOutboxRepository notificationOutboxRepository;
+  @Mock
+  private NotificationRepository notificationRepository;
+  @Mock
+  private NotificationService notificationService;
+  @Mock
+  private FcmBatchDispatcher fcmBatchDispatcher;
+
+  private SimpleMeterRegistry meterRegistry;
+  private NotificationOutboxDispatcher dispatcher;
+  private AppNotification notification;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    dispatcher = new NotificationOutboxDispatcher(notificationOutboxService, notificationOutboxRepository,
+        notificationRepository, notificationService, fcmBatchDispatcher, meterRegistry, 2);
+
+    notification = mock(AppNotification.class);
+    given(notification.getNotificationId()).willReturn(NOTIFICATION_ID);
+    given(notificationRepository.findAllForDelivery(anyCollection())).willReturn(List.of(notification));
+  }
+
+  @AfterEach
+  void tearDown() throws InterruptedException {
+    dispatcher.shutdown();
+  }
+
+  @Test
+  @DisplayName("전달 성공 - 완료 처리되고 전달 수와 전달 지연이 기록된다")
+  void dispatch_Delivered_CompletesAndRecordsLag() {
+    // given
+    claim(outbox(0));
+    given(fcmBatchDispatcher.sendAll(anyList())).willReturn(Map.of(NOTIFICATION_ID, FcmBatchDispatcher.Result.SENT));
+
+    // when
+    dispatcher.dispatch();
+
+    // then
+    then(notificationService).should().sendRealtime(notification);
+    then(notificationOutboxService).should().complete(List.of(OUTBOX_ID));
+    then(notificationOutboxService).should(never()).reschedule(anyLong(), anyInt(), any(), anyString());
+    assertThat(counter("delivered")).isEqualTo(1);
+    assertThat(meterRegistry.get("notification.outbox.delivery.lag").timer().count()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("FCM 재시도 대상 - 시도 횟수에 맞는 백오프 후로 다시 예약된다")
+  void dispatch_FcmRetry_RescheduledWithBackoff() {
+    // given: 두 번째 시도에서 실패
+    claim(outbox(1));
+    given(fcmBatchDispatcher.sendAll(anyList())).willReturn(Map.of(NOTIFICATION_ID, FcmBatchDispatcher.Result.RETRY));
+
+    // when
+    dispatcher.dispatch();
+
+    // then: 2번째 백오프(30초) 후 재시도, 재시도 때는 SSE 를 다시 보내지 않음
+    ArgumentCaptor<LocalDateTime> nextAttemptAt = ArgumentCaptor.forClass(LocalDateTime.class);
+    then(notificationOutboxService).should()
+        .reschedule(eq(OUTBOX_ID), eq(2), nextAttemptAt.capture(), anyString());
+    assertThat(nextAttemptAt.getValue()).isCloseTo(LocalDateTime.now().plusSeconds(30), within(Duration.ofSeconds(5)));
+    then(notificationOutboxService).should().complete(List.of());
+    then(notificationOutboxService).should(never()).fail(anyLong(), anyInt(), anyString());
+    then(notificationService).should(never()).sendRealtime(any());
+    assertThat(counter("retried")).isEqualTo(1);
+    assertThat(counter("delivered")).isZero();
+  }
+
+  @Test
+  @DisplayName("최대 시도 횟수 도달 - 다시 예약하지 않고 FAILED 로 보관된다")
+  void dispatch_MaxAttempts_MarkedFailed() {
+    // given: 마지막(6번째) 시도
+    claim(outbox(5));
+    given(fcmBatchDispatcher.sendAll(anyList())).willReturn(Map.of(NOTIFICATION_ID, FcmBatchDispatcher.Result.RETRY));
+
+    // when
+    dispatcher.dispatch();
+
+    // then
+    then(notificationOutboxService).should().fail(eq(OUTBOX_ID), eq(6), anyString());
+    then(notificationOutboxService).should(never()).reschedule(anyLong(), anyInt(), any(), anyString());
+    assertThat(counter("failed")).isEqualTo(1);
+    assertThat(counter("retried")).isZero();
+  }
+
+  @Test
+  @DisplayName("지표 갱신 - 대기 항목 수와 가장 오래된 대기 항목의 나이")
+  void refreshMetrics_PendingAndLag() {
+    // given
+    given(notificationOutboxRepository.countByStatus(NotificationOutbox.Status.PENDING)).willReturn(7L);
+    given(notificationOutboxRepository.findOldestPendingCreatedAt()).willReturn(LocalDateTime.now().minusSeconds(90));
+
+    // when
+    dispatcher.refreshMetrics();
+
+    // then
+    assertThat(meterRegistry.get("notification.outbox.pending").gauge().value()).isEqualTo(7);
+    assertThat(meterRegistry.get("notification.outbox.lag").gauge().value()).isBetween(89.0, 95.0);
+  }
+
+  @Test
+  @DisplayName("지표 갱신 - 대기 항목이 없으면 지연 0")
+  void refreshMetrics_NoPending_ZeroLag() {
+    // given
+    given(notificationOutboxRepository.countByStatus(NotificationOutbox.Status.PENDING)).willReturn(0L);
+    given(notificationOutboxRepository.findOldestPendingCreatedAt()).willReturn(null);
+
+    // when
+    dispatcher.refreshMetrics();
+
+    // then
+    assertThat(meterRegistry.get("notification.outbox.pending").gauge().value()).isZero();
+    assertThat(meterRegistry.get("notification.outbox.lag").gauge().value()).isZero();
+  }
+
+  private NotificationOutbox outbox(int attempts) {
+    NotificationOutbox outbox = NotificationOutbox.of(NOTIFICATION_ID, NotificationOutbox.EventType.CREATED);
+    ReflectionTestUtils.setField(outbox, "outboxId", OUTBOX_ID);
+    ReflectionTestUtils.setField(outbox, "attempts", attempts);
+    return outbox;
+  }
+
+  private void claim(NotificationOutbox outbox) {
+    given(notificationOutboxService.claim(anyInt(), any(Duration.class))).willReturn(List.of(outbox));
+  }
+
+  private double counter(String result) {
+    return meterRegistry.get("notification.outbox.delivery").tag("result", result).counter().count();
+  }
+}
@@ -0,0 +1,109 @@
+package com.example.onlyone.domain.notification.service;
+
+import com.example.onlyone.domain.notification.repository.NotificationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+/**
+ * 읽지 않은 알림 카운터 드리프트 보정 검증
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class NotificationUnreadCounterTest {
+
+  private static final Long USER_ID = 1L;
+  private static final List<String> KEYS = List.of("notification-unread:" + USER_ID);
+
+  @Mock
+  private StringRedisTemplate stringRedisTemplate;
+  @Mock
+  private ValueOperations<String, String> valueOperations;
+  @Mock
+  private NotificationRepository notificationRepository;
+  @InjectMocks
+  private NotificationUnreadCounter notificationUnreadCounter;
+
+  @BeforeEach
+  void setUp() {
+    given(stringRedisTemplate.opsForValue()).willReturn(valueOperations);
+    given(notificationRepository.countUnreadByUserIds(anyCollection())).willReturn(List.of(row(6L)));
+    given(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(), any())).willReturn(1L);
+  }
+
+  @Test
+  @DisplayName("COUNT 전후 카운터가 같고 DB 와 다르면 COUNT 이후 값을 기준으로 보정한다")
+  void correct_StableMismatch_Corrected() {
+    // given
+    given(valueOperations.multiGet(KEYS)).willReturn(List.of("5"), List.of("5"));
+
+    // when
+    int corrected = notificationUnreadCounter.correct(KEYS);
+
+    // then
+    assertThat(corrected).isEqualTo(1);
+    then(stringRedisTemplate).should().execute(any(RedisScript.class), eq(KEYS), eq("5"), eq("6"));
+  }
+
+  @Test
+  @DisplayName("COUNT 도중 카운터가 바뀐 유저는 이번 검사에서 보정하지 않는다")
+  void correct_ChangedDuringCount_Skipped() {
+    // given: 검사 중 새 알림 커밋 -> COUNT 에는 포함, 카운터 증가는 COUNT 이후
+    given(valueOperations.multiGet(KEYS)).willReturn(List.of("5"), List.of("6"));
+
+    // when
+    int corrected = notificationUnreadCounter.correct(KEYS);
+
+    // then
+    assertThat(corrected).isZero();
+    then(stringRedisTemplate).should(never()).execute(any(RedisScript.class), anyList(), any(), any());
+  }
+
+  @Test
+  @DisplayName("카운터와 DB 가 같으면 보정하지 않는다")
+  void correct_NoDrift_Untouched() {
+    // given
+    given(valueOperations.multiGet(KEYS)).willReturn(List.of("6"), List.of("6"));
+
+    // when
+    int corrected = notificationUnreadCounter.correct(KEYS);
+
+    // then
+    assertThat(corrected).isZero();
+    then(stringRedisTemplate).should(never()).execute(any(RedisScript.class), anyList(), any(), any());
+  }
+
+  private NotificationRepository.UnreadCountRow row(long unreadCount) {
+    return new NotificationRepository.UnreadCountRow() {
+      @Override
+      public Long getUserId() {
+        return USER_ID;
+      }
+
+      @Override
+      public Long getUnreadCount() {
+        return unreadCount;
+      }
+    };
+  }
+}
@@ -0,0 +1,268 @@
+package com.example.onlyone.domain.notification.service;
+
+import com.example.onlyone.domain.notification.dto.responseDto.SseNotificationDto;
+import com.example.onlyone.domain.notification.entity.AppNotification;
+import com.example.onlyone.domain.notification.entity.NotificationType;
+import com.example.onlyone.domain.notification.entity.Type;
+import com.example.onlyone.domain.notification.repository.NotificationRepository;
+import com.example.onlyone.domain.user.entity.User;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.listener.Topic;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+
+/**
+ * 인스턴스 간 SSE 전달 검증
+ * 애플리케이션 컨텍스트 두 개(A, B)가 스텁 Redis pub/sub 하나를 공유하고, 유저는 테스트마다 A/B 중 연결된 곳이 다름
+ */
+class SseClusterDeliveryTest {
+
+  private static final Long USER_ID = 1L;
+
+  private StubRedis redis;
+  private Node nodeA;
+  private Node nodeB;
+
+  @BeforeEach
+  void setUp() {
+    redis = new StubRedis();
+    nodeA = new Node(redis);
+    nodeB = new Node(redis);
+  }
+
+  @AfterEach
+  void tearDown() {
+    nodeA.context.close();
+    nodeB.context.close();
+  }
+
+  @Test
+  @DisplayName("다른 인스턴스에 연결된 유저 - 채널로 발행되어 연결된 인스턴스만 전달")
+  void sendNotification_RemoteUser_DeliveredByConnectedNode() {
+    // given
+    nodeB.emitters.createSseConnection(USER_ID);
+
+    // when
+    nodeA.delivery.sendNotification(USER_ID, notification(10L));
+
+    // then
+    assertThat(redis.published).hasSize(1);
+    then(nodeB.emitters).should().sendSseNotification(eq(USER_ID),
+        argThat((SseNotificationDto dto) -> dto.getNotificationId().equals(10L)
+            && dto.getType() == Type.CHAT && dto.getCreatedAt() != null));
+    then(nodeA.emitters).should(never()).sendSseNotification(any(), any(SseNotificationDto.class));
+  }
+
+  @Test
+  @DisplayName("같은 인스턴스에 연결된 유저 - 바로 전달, 발행된 메시지는 자기 인스턴스가 다시 전달하지 않음")
+  void sendNotification_LocalUser_DeliveredOnce() {
+    // given
+    nodeA.emitters.createSseConnection(USER_ID);
+
+    // when
+    nodeA.delivery.sendNotification(USER_ID, notification(11L));
+
+    // then
+    assertThat(redis.published).hasSize(1);
+    then(nodeA.emitters).should(times(1)).sendSseNotification(eq(USER_ID), any(SseNotificationDto.class));
+    then(nodeB.emitters).should(never()).sendSseNotification(any(), any(SseNotificationDto.class));
+  }
+
+  @Test
+  @DisplayName("웹은 A, 모바일은 B 에 연결된 유저 - 두 인스턴스의 연결 모두 한 번씩 전달")
+  void sendNotification_ConnectedOnBothNodes_DeliveredToEach() {
+    // given
+    nodeA.emitters.createSseConnection(USER_ID);
+    nodeB.emitters.createSseConnection(USER_ID);
+
+    // when
+    nodeA.delivery.sendNotification(USER_ID, notification(13L));
+
+    // then
+    assertThat(redis.published).hasSize(1);
+    then(nodeA.emitters).should(times(1)).sendSseNotification(eq(USER_ID), any(SseNotificationDto.class));
+    then(nodeB.emitters).should(times(1)).sendSseNotification(eq(USER_ID), any(SseNotificationDto.class));
+  }
+
+  @Test
+  @DisplayName("웹은 A, 모바일은 B 에 연결된 유저 - 읽지 않은 개수도 두 인스턴스에서 한 번씩 전달")
+  void sendUnreadCount_ConnectedOnBothNodes_DeliveredToEach() {
+    // given
+    nodeA.emitters.createSseConnection(USER_ID);
+    nodeB.emitters.createSseConnection(USER_ID);
+
+    // when
+    nodeA.delivery.sendUnreadCount(USER_ID);
+
+    // then
+    then(nodeA.emitters).should(times(1)).sendUnreadCountUpdate(USER_ID);
+    then(nodeB.emitters).should(times(1)).sendUnreadCountUpdate(USER_ID);
+  }
+
+  @Test
+  @DisplayName("읽지 않은 개수 - 연결된 인스턴스가 카운터를 읽어 전달")
+  void sendUnreadCount_RemoteUser_DeliveredByConnectedNode() {
+    // given
+    nodeB.emitters.createSseConnection(USER_ID);
+    given(nodeB.unreadCounter.get(USER_ID)).willReturn(3L);
+
+    // when
+    nodeA.delivery.sendUnreadCount(USER_ID);
+
+    // then
+    then(nodeB.emitters).should().sendUnreadCountUpdate(USER_ID);
+    then(nodeB.unreadCounter).should().get(USER_ID);
+    then(nodeA.unreadCounter).should(never()).get(any());
+  }
+
+  @Test
+  @DisplayName("어느 인스턴스에도 연결되지 않은 유저 - 발행만 되고 전달 없음")
+  void sendNotification_OfflineUser_Dropped() {
+    // when
+    nodeA.delivery.sendNotification(USER_ID, notification(12L));
+
+    // then
+    assertThat(redis.published).hasSize(1);
+    then(nodeA.emitters).should(never()).sendSseNotification(any(), any(SseNotificationDto.class));
+    then(nodeB.emitters).should(never()).sendSseNotification(any(), any(SseNotificationDto.class));
+  }
+
+  @Test
+  @DisplayName("새 피드 알림 - 유저 목록을 한 번 발행하고 각 인스턴스가 연결된 유저에게만 묶어서 전달")
+  void sendFeedUpdate_EachNodeDeliversToConnectedViewers() {
+    // given: 유저 1 은 A, 유저 2 는 B 에 연결, 유저 3 은 미접속
+    nodeA.emitters.createSseConnection(1L);
+    nodeB.emitters.createSseConnection(2L);
+    ReflectionTestUtils.setField(nodeA.delivery, "feedUpdateCoalesceMillis", 0L);
+    ReflectionTestUtils.setField(nodeB.delivery, "feedUpdateCoalesceMillis", 0L);
+
+    // when: A 에서 새 피드 두 개
+    nodeA.delivery.sendFeedUpdate(List.of(1L, 2L, 3L));
+    nodeA.delivery.sendFeedUpdate(List.of(1L, 2L, 3L));
+    nodeA.delivery.flushFeedUpdates();
+    nodeB.delivery.flushFeedUpdates();
+
+    // then: 피드당 발행 1회, 유저당 feed_update 1회 (개수 2)
+    assertThat(redis.published).hasSize(2);
+    then(nodeA.emitters).should().sendFeedUpdate(1L, 2);
+    then(nodeB.emitters).should().sendFeedUpdate(2L, 2);
+    then(nodeA.emitters).should(never()).sendFeedUpdate(eq(2L), anyInt());
+    then(nodeB.emitters).should(never()).sendFeedUpdate(eq(1L), anyInt());
+    then(nodeA.emitters).should(never()).sendFeedUpdate(eq(3L), anyInt());
+    then(nodeB.emitters).should(never()).sendFeedUpdate(eq(3L), anyInt());
+  }
+
+  @Test
+  @DisplayName("새 피드 알림 - 유저별 묶음 창이 지나기 전에는 전송하지 않는다")
+  void sendFeedUpdate_WithinWindow_NotSentYet() {
+    // given
+    nodeB.emitters.createSseConnection(2L);
+    ReflectionTestUtils.setField(nodeB.delivery, "feedUpdateCoalesceMillis", 60_000L);
+
+    // when
+    nodeA.delivery.sendFeedUpdate(List.of(2L));
+    nodeB.delivery.flushFeedUpdates();
+
+    // then
+    then(nodeB.emitters).should(never()).sendFeedUpdate(any(), anyInt());
+  }
+
+  private AppNotification notification(Long notificationId) {
+    User user = mock(User.class);
+    given(user.getUserId()).willReturn(USER_ID);
+    NotificationType type = mock(NotificationType.class);
+    given(type.getType()).willReturn(Type.CHAT);
+
+    AppNotification appNotification = mock(AppNotification.class);
+    given(appNotification.getNotificationId()).willReturn(notificationId);
+    given(appNotification.getUser()).willReturn(user);
+    given(appNotification.getNotificationType()).willReturn(type);
+    given(appNotification.getContent()).willReturn("홍길동님이 메시지를 보냈습니다.");
+    given(appNotification.getCreatedAt()).willReturn(LocalDateTime.now());
+    return appNotification;
+  }
+
+  /**
+   * 애플리케이션 인스턴스 하나 (SSE 관련 빈만 올린 컨텍스트)
+   */
+  private static class Node {
+    private final AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+    private final NotificationUnreadCounter unreadCounter = mock(NotificationUnreadCounter.class);
+    private final SseEmittersService emitters;
+    private final SseDeliveryService delivery;
+
+    Node(StubRedis redis) {
+      context.registerBean(StringRedisTemplate.class, () -> redis.template);
+      context.registerBean(RedisMessageListenerContainer.class, () -> redis.container);
+      context.registerBean(ObjectMapper.class, () -> new ObjectMapper().findAndRegisterModules());
+      context.registerBean(NotificationRepository.class, () -> mock(NotificationRepository.class));
+      context.registerBean(NotificationUnreadCounter.class, () -> unreadCounter);
+      context.registerBean(SseEmittersService.class, () -> spy(new SseEmittersService(
+          context.getBean(NotificationRepository.class), unreadCounter)));
+      context.registerBean(SseDeliveryService.class);
+      context.refresh();
+
+      emitters = context.getBean(SseEmittersService.class);
+      delivery = context.getBean(SseDeliveryService.class);
+    }
+  }
+
+  /**
+   * 스텁 Redis - 컨텍스트들이 공유하는 pub/sub (발행 시 같은 채널 구독자에게 동기로 전달)
+   */
+  private static class StubRedis {
+    private final Map<String, List<MessageListener>> subscribers = new ConcurrentHashMap<>();
+    private final List<String> published = new ArrayList<>();
+    private final StringRedisTemplate template = mock(StringRedisTemplate.class);
+    private final RedisMessageListenerContainer container = mock(RedisMessageListenerContainer.class);
+
+    StubRedis() {
+      willAnswer(inv -> {
+        Topic topic = inv.getArgument(1);
+        subscribers.computeIfAbsent(((ChannelTopic) topic).getTopic(), k -> new ArrayList<>())
+            .add(inv.getArgument(0));
+        return null;
+      }).given(container).addMessageListener(any(MessageListener.class), any(Topic.class));
+
+      willAnswer(inv -> {
+        String channel = inv.getArgument(0);
+        String body = inv.getArgument(1);
+        published.add(body);
+        List<MessageListener> listeners = subscribers.getOrDefault(channel, List.of());
+        listeners.forEach(listener -> listener.onMessage(new DefaultMessage(
+            channel.getBytes(StandardCharsets.UTF_8), body.getBytes(StandardCharsets.UTF_8)), null));
+        return (long) listeners.size();
+      }).given(template).convertAndSend(anyString(), any());
+    }
+  }
+}
@@ -4,7 +4,6 @@ import com.example.onlyone.domain.notification.entity.AppNotification;
 import com.example.onlyone.domain.notification.entity.NotificationType;
 import com.example.onlyone.domain.notification.entity.Type;
 import com.example.onlyone.domain.notification.repository.NotificationRepository;
-import com.example.onlyone.domain.user.entity.User;
 import com.example.onlyone.global.exception.CustomException;
 import com.example.onlyone.global.exception.ErrorCode;
 import org.junit.jupiter.api.BeforeEach;
@@ -21,6 +20,7 @@ import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -33,12 +33,14 @@ import static org.mockito.BDDMockito.*;
 class SseEmittersServiceTest {
 
   @Mock private NotificationRepository notificationRepository;
+  @Mock private NotificationUnreadCounter notificationUnreadCounter;
   @InjectMocks private SseEmittersService service;
 
   @BeforeEach
   void setUp() {
     // SSE 타임아웃 설정
     ReflectionTestUtils.setField(service, "sseTimeoutMillis", 30000L);
+    ReflectionTestUtils.setField(service, "maxConnectionsPerUser", 2);
   }
 
   @Nested
@@ -93,6 +95,37 @@ class SseEmittersServiceTest {
       assertThat(result).isNotNull();
       then(notificationRepository).shouldHaveNoInteractions();
     }
+
+    @Test
+    @DisplayName("같은 사용자의 두 번째 연결 - 기존 연결을 유지")
+    void createConnection_SecondStream_KeepsExisting() {
+      // given
+      Long userId = 1L;
+      SseEmitter first = service.createSseConnection(userId);
+
+      // when
+      SseEmitter second = service.createSseConnection(userId);
+
+      // then
+      assertThat(connectionsOf(userId)).containsExactly(first, second);
+    }
+
+    @Test
+    @DisplayName("연결 수 상한 초과 - 가장 오래된 연결만 정리")
+    void createConnection_OverCap_EvictsOldest() {
+      // given
+      Long userId = 1L;
+      SseEmitter oldest = service.createSseConnection(userId);
+      SseEmitter middle = service.createSseConnection(userId);
+
+      // when
+      SseEmitter newest = service.createSseConnection(userId);
+
+      // then
+      assertThat(connectionsOf(userId)).containsExactly(middle, newest);
+      assertThat(connectionsOf(userId)).doesNotContain(oldest);
+      assertThat(service.isConnected(userId)).isTrue();
+    }
   }
 
   @Nested
@@ -139,7 +172,7 @@ class SseEmittersServiceTest {
       // given
       Long userId = 1L;
       Long unreadCount = 5L;
-      given(notificationRepository.countByUser_UserIdAndIsReadFalse(userId)).willReturn(unreadCount);
+      given(notificationUnreadCounter.get(userId)).willReturn(unreadCount);
       
       // 먼저 연결 생성
       service.createSseConnection(userId);
@@ -149,7 +182,7 @@ class SseEmittersServiceTest {
           .doesNotThrowAnyException();
 
       // then
-      then(notificationRepository).should().countByUser_UserIdAndIsReadFalse(userId);
+      then(notificationUnreadCounter).should().get(userId);
     }
 
     @Test
@@ -195,16 +228,20 @@ class SseEmittersServiceTest {
   // Helper Methods
   // ================================
 
-  private AppNotification createMockNotification(Long userId) {
-    User mockUser = mock(User.class);
-    given(mockUser.getUserId()).willReturn(userId);
+  @SuppressWarnings("unchecked")
+  private List<SseEmitter> connectionsOf(Long userId) {
+    Map<Long, List<SseEmitter>> emitters =
+        (Map<Long, List<SseEmitter>>) ReflectionTestUtils.getField(service, "sseEmitters");
+    return emitters.getOrDefault(userId, List.of());
+  }
 
+  // SseNotificationDto.from 이 읽는 값만 스텁 (strict stubs)
+  private AppNotification createMockNotification(Long userId) {
     NotificationType mockType = mock(NotificationType.class);
     given(mockType.getType()).willReturn(Type.CHAT);
 
     AppNotification appNotification = mock(AppNotification.class);
     given(appNotification.getNotificationId()).willReturn(1L);
-    given(appNotification.getUser()).willReturn(mockUser);
     given(appNotification.getNotificationType()).willReturn(mockType);
     given(appNotification.getContent()).willReturn("테스트 알림");
     given(appNotification.getCreatedAt()).willReturn(LocalDateTime.now());
@@ -0,0 +1,124 @@
+package com.example.onlyone.domain.settlement.service;
+
+import com.example.onlyone.domain.club.entity.Club;
+import com.example.onlyone.domain.club.repository.ClubRepository;
+import com.example.onlyone.domain.notification.service.NotificationService;
+import com.example.onlyone.domain.schedule.entity.Schedule;
+import com.example.onlyone.domain.schedule.entity.ScheduleRole;
+import com.example.onlyone.domain.schedule.entity.ScheduleStatus;
+import com.example.onlyone.domain.schedule.entity.UserSchedule;
+import com.example.onlyone.domain.schedule.repository.ScheduleRepository;
+import com.example.onlyone.domain.schedule.repository.UserScheduleRepository;
+import com.example.onlyone.domain.settlement.entity.Settlement;
+import com.example.onlyone.domain.settlement.entity.SettlementStatus;
+import com.example.onlyone.domain.settlement.repository.SettlementRepository;
+import com.example.onlyone.domain.settlement.repository.TransferRepository;
+import com.example.onlyone.domain.settlement.repository.UserSettlementJdbcRepository;
+import com.example.onlyone.domain.settlement.repository.UserSettlementRepository;
+import com.example.onlyone.domain.user.entity.User;
+import com.example.onlyone.domain.user.service.UserService;
+import com.example.onlyone.domain.wallet.repository.WalletRepository;
+import com.example.onlyone.domain.wallet.repository.WalletTransactionRepository;
+import com.example.onlyone.domain.wallet.service.WalletService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.LongStream;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+/**
+ * 정산 생성 시 참여자 정산 행이 건별 INSERT 없이 batch 한 번으로 저장되는지 검증
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class SettlementServiceTest {
+
+  @Mock
+  private UserService userService;
+  @Mock
+  private ClubRepository clubRepository;
+  @Mock
+  private ScheduleRepository scheduleRepository;
+  @Mock
+  private UserScheduleRepository userScheduleRepository;
+  @Mock
+  private SettlementRepository settlementRepository;
+  @Mock
+  private UserSettlementRepository userSettlementRepository;
+  @Mock
+  private UserSettlementJdbcRepository userSettlementJdbcRepository;
+  @Mock
+  private WalletRepository walletRepository;
+  @Mock
+  private WalletTransactionRepository walletTransactionRepository;
+  @Mock
+  private TransferRepository transferRepository;
+  @Mock
+  private NotificationService notificationService;
+  @Mock
+  private WalletService walletService;
+  @InjectMocks
+  private SettlementService settlementService;
+
+  @ParameterizedTest(name = "참여자 {0}명")
+  @ValueSource(ints = {1, 50})
+  @DisplayName("참여자 정산 행은 batch 한 번으로 저장된다")
+  void createSettlement_UserSettlementsInsertedInOneBatch(int participantCount) {
+    // given
+    User leader = User.builder().userId(1L).nickname("leader").build();
+    Schedule schedule = Schedule.builder()
+        .scheduleId(20L)
+        .scheduleStatus(ScheduleStatus.ENDED)
+        .scheduleTime(LocalDateTime.now().minusDays(1))
+        .cost(10000)
+        .build();
+    UserSchedule leaderSchedule = UserSchedule.builder()
+        .user(leader).schedule(schedule).scheduleRole(ScheduleRole.LEADER).build();
+    List<UserSchedule> userSchedules = new ArrayList<>(List.of(leaderSchedule));
+    List<Long> participantIds = LongStream.rangeClosed(2, participantCount + 1).boxed().toList();
+    participantIds.forEach(id -> userSchedules.add(UserSchedule.builder()
+        .user(User.builder().userId(id).build())
+        .schedule(schedule)
+        .scheduleRole(ScheduleRole.MEMBER)
+        .build()));
+
+    given(userService.getCurrentUser()).willReturn(leader);
+    given(clubRepository.findById(10L)).willReturn(Optional.of(Club.builder().clubId(10L).build()));
+    given(scheduleRepository.findById(20L)).willReturn(Optional.of(schedule));
+    given(userScheduleRepository.findByUserAndSchedule(leader, schedule)).willReturn(Optional.of(leaderSchedule));
+    given(userScheduleRepository.countBySchedule(schedule)).willReturn(participantCount + 1);
+    given(userScheduleRepository.findUserSchedulesBySchedule(schedule)).willReturn(userSchedules);
+    given(settlementRepository.save(any(Settlement.class))).willAnswer(inv -> {
+      Settlement settlement = inv.getArgument(0);
+      ReflectionTestUtils.setField(settlement, "settlementId", 30L);
+      return settlement;
+    });
+
+    // when
+    settlementService.createSettlement(10L, 20L);
+
+    // then: 참여자 행은 saveAll 로 건별 INSERT 하지 않고 batch 한 번으로 (INSERT 문 수는 DataSourceConfigTest)
+    then(userSettlementRepository).should(never()).saveAll(anyList());
+    then(userSettlementJdbcRepository).should(times(1))
+        .insertAll(eq(30L), eq(participantIds), eq(SettlementStatus.REQUESTED));
+  }
+}
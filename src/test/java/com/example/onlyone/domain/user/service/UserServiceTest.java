@@ -0,0 +1,114 @@
+package com.example.onlyone.domain.user.service;
+
+import com.example.onlyone.domain.interest.entity.Category;
+import com.example.onlyone.domain.interest.entity.Interest;
+import com.example.onlyone.domain.interest.repository.InterestRepository;
+import com.example.onlyone.domain.settlement.repository.UserSettlementRepository;
+import com.example.onlyone.domain.user.dto.request.ProfileUpdateRequestDto;
+import com.example.onlyone.domain.user.entity.Gender;
+import com.example.onlyone.domain.user.entity.User;
+import com.example.onlyone.domain.user.repository.UserInterestJdbcRepository;
+import com.example.onlyone.domain.user.repository.UserInterestRepository;
+import com.example.onlyone.domain.user.repository.UserRepository;
+import com.example.onlyone.domain.wallet.repository.WalletRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+/**
+ * 관심사 저장 시 관심사마다 조회/INSERT 하지 않고 batch 한 번으로 저장되는지 검증
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class UserServiceTest {
+
+  @Mock
+  private UserRepository userRepository;
+  @Mock
+  private UserInterestRepository userInterestRepository;
+  @Mock
+  private UserInterestJdbcRepository userInterestJdbcRepository;
+  @Mock
+  private InterestRepository interestRepository;
+  @Mock
+  private WalletRepository walletRepository;
+  @Mock
+  private UserSettlementRepository userSettlementRepository;
+  @InjectMocks
+  private UserService userService;
+
+  private User me;
+
+  @BeforeEach
+  void setUp() {
+    me = User.builder().userId(1L).kakaoId(12345L).nickname("me").build();
+    SecurityContextHolder.getContext().setAuthentication(
+        new UsernamePasswordAuthenticationToken("12345", null, List.of()));
+    given(userRepository.findByKakaoId(12345L)).willReturn(Optional.of(me));
+    given(interestRepository.findAllByCategoryIn(anyCollection())).willAnswer(inv -> {
+      Collection<Category> categories = inv.getArgument(0);
+      return categories.stream()
+          .map(c -> Interest.builder().interestId((long) c.ordinal() + 1).category(c).build())
+          .toList();
+    });
+  }
+
+  @AfterEach
+  void tearDown() {
+    SecurityContextHolder.clearContext();
+  }
+
+  @ParameterizedTest(name = "관심사 {0}개")
+  @ValueSource(ints = {1, 8})
+  @DisplayName("관심사는 카테고리 조회 1회 + batch 1회로 저장된다")
+  void updateUserProfile_InterestsInsertedInOneBatch(int interestCount) {
+    // given
+    List<String> categories = Arrays.stream(Category.values())
+        .limit(interestCount)
+        .map(Category::name)
+        .toList();
+    ProfileUpdateRequestDto request = ProfileUpdateRequestDto.builder()
+        .nickname("me")
+        .birth(LocalDate.of(2000, 1, 1))
+        .gender(Gender.MALE)
+        .city("서울")
+        .district("강남구")
+        .interestsList(categories)
+        .build();
+
+    // when
+    userService.updateUserProfile(request);
+
+    // then: 관심사마다 조회/INSERT 하지 않고 카테고리 조회 1회 + batch 한 번으로 (INSERT 문 수는 DataSourceConfigTest)
+    then(interestRepository).should(times(1)).findAllByCategoryIn(anyCollection());
+    then(interestRepository).should(never()).findByCategory(any());
+    then(userInterestRepository).should(never()).save(any());
+    then(userInterestJdbcRepository).should(times(1)).insertAll(eq(1L),
+        Mockito.<Collection<Long>>argThat(ids -> ids.size() == interestCount));
+  }
+}
@@ -0,0 +1,165 @@
+package com.example.onlyone.global.config;
+
+import com.example.onlyone.domain.club.entity.Club;
+import com.example.onlyone.domain.feed.entity.Feed;
+import com.example.onlyone.domain.feed.repository.FeedImageJdbcRepository;
+import com.example.onlyone.domain.interest.entity.Category;
+import com.example.onlyone.domain.interest.entity.Interest;
+import com.example.onlyone.domain.schedule.entity.Schedule;
+import com.example.onlyone.domain.schedule.entity.ScheduleStatus;
+import com.example.onlyone.domain.settlement.entity.Settlement;
+import com.example.onlyone.domain.settlement.entity.SettlementStatus;
+import com.example.onlyone.domain.settlement.entity.TotalStatus;
+import com.example.onlyone.domain.settlement.repository.UserSettlementJdbcRepository;
+import com.example.onlyone.domain.user.entity.Status;
+import com.example.onlyone.domain.user.entity.User;
+import com.example.onlyone.domain.user.repository.UserInterestJdbcRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * JDBC batch 다건 INSERT 가 행 수와 무관하게 INSERT 문 하나로 실행되는지 검증
+ * MySQL 세션 상태 Com_insert(실행된 INSERT 문 수)를 실행 전후로 비교한다.
+ * rewriteBatchedStatements 가 꺼져 있으면 행 수만큼 늘어난다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({DataSourceConfig.class, FeedImageJdbcRepository.class,
+    UserSettlementJdbcRepository.class, UserInterestJdbcRepository.class})
+class DataSourceConfigTest {
+
+  @Autowired private TestEntityManager em;
+  @Autowired private JdbcTemplate jdbcTemplate;
+  @Autowired private FeedImageJdbcRepository feedImageJdbcRepository;
+  @Autowired private UserSettlementJdbcRepository userSettlementJdbcRepository;
+  @Autowired private UserInterestJdbcRepository userInterestJdbcRepository;
+
+  private Interest interest;
+  private Club club;
+  private User leader;
+
+  @BeforeEach
+  void setUp() {
+    interest = em.persist(Interest.builder().category(Category.CULTURE).build());
+    club = em.persist(Club.builder()
+        .name("독서 모임")
+        .description("책을 읽어요")
+        .userLimit(100)
+        .city("서울")
+        .district("강남구")
+        .interest(interest)
+        .build());
+    leader = user(0);
+    em.flush();
+  }
+
+  @ParameterizedTest(name = "이미지 {0}개")
+  @ValueSource(ints = {1, 5})
+  @DisplayName("피드 이미지는 INSERT 문 하나로 저장된다")
+  void feedImages_OneInsertStatement(int imageCount) {
+    // given
+    Feed feed = em.persist(Feed.builder().content("feed").club(club).user(leader).build());
+    em.flush();
+    List<String> urls = IntStream.range(0, imageCount).mapToObj(i -> "img-" + i + ".png").toList();
+    long before = insertCount();
+
+    // when
+    feedImageJdbcRepository.insertAll(feed.getFeedId(), urls);
+
+    // then
+    assertThat(insertCount() - before).isEqualTo(1);
+    assertThat(rowCount("SELECT COUNT(*) FROM feed_image WHERE feed_id = ?", feed.getFeedId()))
+        .isEqualTo(imageCount);
+  }
+
+  @ParameterizedTest(name = "참여자 {0}명")
+  @ValueSource(ints = {1, 50})
+  @DisplayName("정산 참여자 행은 INSERT 문 하나로 저장된다")
+  void userSettlements_OneInsertStatement(int participantCount) {
+    // given
+    Schedule schedule = em.persist(Schedule.builder()
+        .name("정기 모임")
+        .location("강남역")
+        .cost(10000)
+        .userLimit(100)
+        .scheduleLimit(100)
+        .scheduleStatus(ScheduleStatus.ENDED)
+        .scheduleTime(LocalDateTime.now().minusDays(1))
+        .club(club)
+        .build());
+    Settlement settlement = em.persist(Settlement.builder()
+        .schedule(schedule)
+        .sum(0)
+        .totalStatus(TotalStatus.REQUESTED)
+        .receiver(leader)
+        .build());
+    List<Long> participantIds = IntStream.rangeClosed(1, participantCount)
+        .mapToObj(i -> user(i).getUserId())
+        .toList();
+    em.flush();
+    long before = insertCount();
+
+    // when
+    userSettlementJdbcRepository.insertAll(settlement.getSettlementId(), participantIds, SettlementStatus.REQUESTED);
+
+    // then
+    assertThat(insertCount() - before).isEqualTo(1);
+    assertThat(rowCount("SELECT COUNT(*) FROM user_settlement WHERE settlement_id = ?", settlement.getSettlementId()))
+        .isEqualTo(participantCount);
+  }
+
+  @ParameterizedTest(name = "관심사 {0}개")
+  @ValueSource(ints = {1, 8})
+  @DisplayName("유저 관심사는 INSERT 문 하나로 저장된다")
+  void userInterests_OneInsertStatement(int interestCount) {
+    // given
+    List<Long> interestIds = Arrays.stream(Category.values())
+        .limit(interestCount)
+        .map(category -> category == interest.getCategory()
+            ? interest.getInterestId()
+            : em.persist(Interest.builder().category(category).build()).getInterestId())
+        .toList();
+    em.flush();
+    long before = insertCount();
+
+    // when
+    userInterestJdbcRepository.insertAll(leader.getUserId(), interestIds);
+
+    // then
+    assertThat(insertCount() - before).isEqualTo(1);
+    assertThat(rowCount("SELECT COUNT(*) FROM user_interest WHERE user_id = ?", leader.getUserId()))
+        .isEqualTo(interestCount);
+  }
+
+  // 현재 커넥션(세션)에서 실행된 INSERT 문 수 - 테스트 트랜잭션과 같은 커넥션에서 조회
+  private long insertCount() {
+    return jdbcTemplate.queryForObject("SHOW SESSION STATUS LIKE 'Com_insert'", (rs, i) -> rs.getLong("Value"));
+  }
+
+  private long rowCount(String sql, Long id) {
+    return jdbcTemplate.queryForObject(sql, Long.class, id);
+  }
+
+  private User user(int seq) {
+    return em.persist(User.builder()
+        .kakaoId(80_000L + seq)
+        .nickname("user" + seq)
+        .status(Status.ACTIVE)
+        .build());
+  }
+}